@@ -0,0 +1,44 @@
+package ru.vyarus.gradle.plugin.journal;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildServiceRegistration;
+import org.gradle.build.event.BuildEventsListenerRegistry;
+
+import javax.inject.Inject;
+
+/**
+ * Registers task events journal service (build/journal/tasks.journal).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.11.2025
+ */
+public abstract class JournalPlugin implements Plugin<Project> {
+
+    public static final int DEFAULT_CAPACITY = 100_000;
+
+    @Inject
+    public abstract BuildEventsListenerRegistry getEventsListenerRegistry();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void apply(Project project) {
+        final Provider<JournalService> service = project.getGradle().getSharedServices().registerIfAbsent(
+                "journal", JournalService.class, spec -> {
+                    spec.getParameters().getFile().set(
+                            project.getLayout().getBuildDirectory().file("journal/tasks.journal"));
+                    spec.getParameters().getCapacity().convention(DEFAULT_CAPACITY);
+                });
+        getEventsListenerRegistry().onTaskCompletion(service);
+        // path ids assigned in advance (no locking and allocations in listener)
+        project.getGradle().getTaskGraph().whenReady(graph -> {
+            final JournalService.Params params = ((BuildServiceRegistration<JournalService, JournalService.Params>)
+                    project.getGradle().getSharedServices().getRegistrations().getByName("journal")).getParameters();
+            if (!params.getPaths().isPresent() || params.getPaths().get().isEmpty()) {
+                params.getPaths().set(graph.getAllTasks().stream().map(Task::getPath).toList());
+            }
+        });
+    }
+}
@@ -0,0 +1,152 @@
+package ru.vyarus.gradle.plugin.journal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads journal, written by {@link JournalService} (post-mortem build analysis). Written records are found by
+ * record marker (not by header count): header is updated only on service close, so journal of killed daemon would
+ * look empty otherwise. Records, reserved but not finished at the moment of kill, are not visible.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.11.2025
+ */
+public class JournalReader {
+
+    private final MappedByteBuffer buffer;
+    private final List<String> paths;
+    // offsets of written records
+    private final int[] records;
+    private final long dropped;
+
+    public JournalReader(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != JournalService.MAGIC) {
+            throw new IllegalStateException("Not a journal file: " + file.getAbsolutePath());
+        }
+        if (buffer.getInt(4) != JournalService.VERSION) {
+            throw new IllegalStateException("Unsupported journal version " + buffer.getInt(4) + ": "
+                    + file.getAbsolutePath());
+        }
+        final int capacity = buffer.getInt(8);
+        final int[] found = new int[capacity];
+        int size = 0;
+        for (int i = 0; i < capacity; i++) {
+            final int offset = JournalService.HEADER_SIZE + i * JournalService.RECORD_SIZE;
+            if (buffer.get(offset + JournalService.WRITTEN_OFFSET) != 0) {
+                found[size++] = offset;
+            }
+        }
+        records = Arrays.copyOf(found, size);
+        dropped = buffer.getLong(16);
+        paths = Files.readAllLines(pathsFile(file).toPath(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return records count
+     */
+    public int size() {
+        return records.length;
+    }
+
+    /**
+     * @return count of records not written because journal was full
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @param index record index
+     * @return record
+     */
+    public Record get(int index) {
+        if (index < 0 || index >= records.length) {
+            throw new IndexOutOfBoundsException("Record " + index + " not found, journal size " + records.length);
+        }
+        final int offset = records[index];
+        final int pathId = buffer.getInt(offset);
+        return new Record(paths.get(pathId),
+                Outcome.values()[buffer.get(offset + 4)],
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                buffer.getLong(offset + 24));
+    }
+
+    /**
+     * @param consumer records consumer
+     */
+    public void forEach(Consumer<Record> consumer) {
+        for (int i = 0; i < records.length; i++) {
+            consumer.accept(get(i));
+        }
+    }
+
+    /**
+     * @return all records
+     */
+    public List<Record> getRecords() {
+        final List<Record> res = new ArrayList<>(records.length);
+        forEach(res::add);
+        return res;
+    }
+
+    static File pathsFile(File journal) {
+        return new File(journal.getParentFile(), journal.getName() + ".paths");
+    }
+
+    /**
+     * Journal record.
+     */
+    public static class Record {
+        private final String path;
+        private final Outcome outcome;
+        private final long startTime;
+        private final long endTime;
+        private final long threadId;
+
+        public Record(String path, Outcome outcome, long startTime, long endTime, long threadId) {
+            this.path = path;
+            this.outcome = outcome;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.threadId = threadId;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public long getStartTime() {
+            return startTime;
+        }
+
+        public long getEndTime() {
+            return endTime;
+        }
+
+        public long getThreadId() {
+            return threadId;
+        }
+
+        @Override
+        public String toString() {
+            return path + " " + outcome + " " + (endTime - startTime) + "ms (thread " + threadId + ")";
+        }
+    }
+}
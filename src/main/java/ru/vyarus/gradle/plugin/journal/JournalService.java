@@ -0,0 +1,167 @@
+package ru.vyarus.gradle.plugin.journal;
+
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.gradle.tooling.events.FinishEvent;
+import org.gradle.tooling.events.OperationCompletionListener;
+import org.gradle.tooling.events.task.TaskFinishEvent;
+import org.gradle.tooling.events.task.TaskOperationResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Task events journal: fixed-layout binary records written into memory-mapped file (journal file is
+ * pre-allocated for configured records count). Task paths are stored as ids: ids of all scheduled tasks are
+ * assigned at configuration time (service parameter) and paths table is written on service creation into a separate
+ * file ([journal].paths, one path per line). Paths, not known in advance, are appended under lock (rare case).
+ * <p>
+ * Writing of known paths is lock-free and does not allocate: each record slot is reserved with an atomic counter
+ * and written with absolute puts. Record's "written" marker is put last, so the reader could find written records
+ * even if the service was not closed (killed daemon): record count in header is written only on close. When
+ * journal is full, new records are dropped (dropped records count is stored in header).
+ * <p>
+ * Service listens for task completion: for events, the recorded thread is the listener thread (not the task's worker
+ * thread). Service could be also used directly (e.g. from task actions to record worker thread).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.11.2025
+ * @see JournalReader
+ */
+public abstract class JournalService implements BuildService<JournalService.Params>, OperationCompletionListener,
+        AutoCloseable {
+
+    public static final int MAGIC = 0x4A524E4C;
+    public static final int VERSION = 2;
+    // magic, version, capacity, count, dropped
+    public static final int HEADER_SIZE = 4 + 4 + 4 + 4 + 8;
+    // path id, outcome, written marker, 2 padding bytes, start, end, thread id
+    public static final int RECORD_SIZE = 4 + 1 + 1 + 2 + 8 + 8 + 8;
+    public static final int WRITTEN_OFFSET = 5;
+
+    private final File file;
+    private final int capacity;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final AtomicLong position = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    // paths of scheduled tasks (not modified after creation)
+    private final Map<String, Integer> pathIds = new HashMap<>();
+    // paths not known in advance
+    private final Map<String, Integer> extraPathIds = new ConcurrentHashMap<>();
+    private final FileChannel pathsChannel;
+    // guarded by this
+    private int nextPathId;
+
+    public JournalService() throws IOException {
+        file = getParameters().getFile().get().getAsFile();
+        capacity = getParameters().getCapacity().get();
+        if ((long) capacity * RECORD_SIZE > Integer.MAX_VALUE - HEADER_SIZE) {
+            throw new IllegalArgumentException("Journal capacity is too large: " + capacity);
+        }
+        file.getParentFile().mkdirs();
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+        buffer.putInt(0, MAGIC)
+                .putInt(4, VERSION)
+                .putInt(8, capacity);
+        pathsChannel = FileChannel.open(JournalReader.pathsFile(file).toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        final List<String> paths = getParameters().getPaths().getOrElse(List.of());
+        final StringBuilder table = new StringBuilder();
+        for (String path : paths) {
+            if (!pathIds.containsKey(path)) {
+                pathIds.put(path, nextPathId++);
+                table.append(path).append('\n');
+            }
+        }
+        pathsChannel.write(ByteBuffer.wrap(table.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param path task path
+     * @return path id (the same id for the same path)
+     */
+    public int pathId(String path) {
+        final Integer id = pathIds.get(path);
+        return id != null ? id : extraPathIds.computeIfAbsent(path, this::registerPath);
+    }
+
+    /**
+     * Append record. Thread, calling this method, is recorded.
+     *
+     * @param pathId    task path id
+     * @param outcome   task outcome
+     * @param startTime task start time
+     * @param endTime   task end time
+     */
+    public void record(int pathId, Outcome outcome, long startTime, long endTime) {
+        final long slot = position.getAndIncrement();
+        if (slot >= capacity) {
+            dropped.incrementAndGet();
+            return;
+        }
+        final int offset = HEADER_SIZE + (int) slot * RECORD_SIZE;
+        buffer.putInt(offset, pathId)
+                .put(offset + 4, (byte) outcome.ordinal())
+                .putLong(offset + 8, startTime)
+                .putLong(offset + 16, endTime)
+                .putLong(offset + 24, Thread.currentThread().getId())
+                // marker written last: record is complete
+                .put(offset + WRITTEN_OFFSET, (byte) 1);
+    }
+
+    @Override
+    public void onFinish(FinishEvent finishEvent) {
+        if (finishEvent instanceof TaskFinishEvent) {
+            final TaskFinishEvent taskEvent = (TaskFinishEvent) finishEvent;
+            final TaskOperationResult result = taskEvent.getResult();
+            record(pathId(taskEvent.getDescriptor().getTaskPath()), Outcome.of(result),
+                    result.getStartTime(), result.getEndTime());
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        buffer.putInt(12, (int) Math.min(position.get(), capacity))
+                .putLong(16, dropped.get());
+        buffer.force();
+        channel.close();
+        pathsChannel.close();
+    }
+
+    // path, not known in advance: id assigned and path appended under the same lock (line number is path id)
+    private synchronized int registerPath(String path) {
+        try {
+            pathsChannel.write(ByteBuffer.wrap((path + "\n").getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write journal path: " + path, e);
+        }
+        return nextPathId++;
+    }
+
+    public interface Params extends BuildServiceParameters {
+        // journal file
+        RegularFileProperty getFile();
+
+        // max records count (journal file size)
+        Property<Integer> getCapacity();
+
+        // paths of all scheduled tasks (ids assigned in advance)
+        ListProperty<String> getPaths();
+    }
+}
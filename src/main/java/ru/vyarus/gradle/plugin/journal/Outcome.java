@@ -0,0 +1,44 @@
+package ru.vyarus.gradle.plugin.journal;
+
+import org.gradle.tooling.events.task.TaskFailureResult;
+import org.gradle.tooling.events.task.TaskOperationResult;
+import org.gradle.tooling.events.task.TaskSkippedResult;
+import org.gradle.tooling.events.task.TaskSuccessResult;
+
+/**
+ * Task execution outcome (resolved from task finish event result).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.11.2025
+ */
+public enum Outcome {
+    EXECUTED,
+    FROM_CACHE,
+    UP_TO_DATE,
+    SKIPPED,
+    FAILED;
+
+    /**
+     * @param result task finish event result
+     * @return task outcome
+     */
+    public static Outcome of(TaskOperationResult result) {
+        if (result instanceof TaskFailureResult) {
+            return FAILED;
+        }
+        if (result instanceof TaskSkippedResult) {
+            return SKIPPED;
+        }
+        if (result instanceof TaskSuccessResult) {
+            final TaskSuccessResult success = (TaskSuccessResult) result;
+            // from-cache tasks are also up-to-date
+            if (success.isFromCache()) {
+                return FROM_CACHE;
+            }
+            if (success.isUpToDate()) {
+                return UP_TO_DATE;
+            }
+        }
+        return EXECUTED;
+    }
+}
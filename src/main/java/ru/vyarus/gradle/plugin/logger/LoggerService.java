@@ -0,0 +1,189 @@
+package ru.vyarus.gradle.plugin.logger;
+
+import org.gradle.api.logging.LogLevel;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Asynchronous console logger. Messages are collected into per-thread buffers (no contention between
+ * threads on the console stream lock) and printed by a single background writer thread in batches (one gradle
+ * logger call per batch and level). Message is formatted (and so arguments {@code toString()} called) only if level
+ * is enabled. Enabled levels are checked with gradle logger, so the current build log level is used (service could
+ * be stored in the configuration cache).
+ * <p>
+ * Messages are printed with their own level. Messages in batch are ordered by logging sequence, but order is not
+ * guaranteed across batches (message could be added to thread buffer after the batch was drained).
+ * <p>
+ * All pending messages are printed on service close. Messages, logged after close, are printed directly.
+ * <p>
+ * Note that messages are printed from the writer thread, so gradle would not group them under the task header.
+ * Gradle logger is used instead of {@code System.out} because gradle could ignore direct output, written at the
+ * very end of the build (when service is closed).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.11.2025
+ */
+public abstract class LoggerService implements BuildService<BuildServiceParameters.None>, AutoCloseable {
+
+    private static final long FLUSH_INTERVAL_MS = 50;
+
+    private final Logger out = Logging.getLogger(LoggerService.class);
+    // global sequence to order messages from different threads in batch
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Buffer> buffers = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Buffer> buffer = ThreadLocal.withInitial(() -> {
+        final Buffer res = new Buffer();
+        buffers.add(res);
+        return res;
+    });
+    private final Thread writer;
+    private volatile boolean closed;
+
+    public LoggerService() {
+        writer = new Thread(this::writeLoop, "logger-service-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * @param level log level
+     * @return true if messages with this level would be printed
+     */
+    public boolean isEnabled(LogLevel level) {
+        return out.isEnabled(level);
+    }
+
+    public void log(LogLevel level, String message) {
+        if (isEnabled(level)) {
+            append(level, message);
+        }
+    }
+
+    /**
+     * @param level   log level
+     * @param message message supplier (called only if level enabled)
+     */
+    public void log(LogLevel level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            append(level, message.get());
+        }
+    }
+
+    /**
+     * @param level   log level
+     * @param pattern message pattern ({@link String#format(String, Object...)})
+     * @param args    message arguments (formatted only if level enabled)
+     */
+    public void log(LogLevel level, String pattern, Object... args) {
+        if (isEnabled(level)) {
+            append(level, String.format(pattern, args));
+        }
+    }
+
+    public void lifecycle(String pattern, Object... args) {
+        log(LogLevel.LIFECYCLE, pattern, args);
+    }
+
+    public void info(String pattern, Object... args) {
+        log(LogLevel.INFO, pattern, args);
+    }
+
+    public void debug(String pattern, Object... args) {
+        log(LogLevel.DEBUG, pattern, args);
+    }
+
+    @Override
+    public void close() throws Exception {
+        closed = true;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        // deterministic flush: everything logged before close is printed (buffers sealed to print
+        // concurrently logged messages directly)
+        drain(true);
+    }
+
+    private void append(LogLevel level, String message) {
+        if (closed || !buffer.get().add(new Message(sequence.getAndIncrement(), level, message))) {
+            out.log(level, message);
+        }
+    }
+
+    private void writeLoop() {
+        while (!closed) {
+            drain(false);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MS));
+        }
+    }
+
+    private synchronized void drain(boolean seal) {
+        final List<Message> batch = new ArrayList<>();
+        buffers.forEach(buf -> buf.drainTo(batch, seal));
+        if (batch.isEmpty()) {
+            return;
+        }
+        batch.sort(Comparator.comparingLong(msg -> msg.seq));
+        // single write for each sequence of messages with the same level
+        int start = 0;
+        for (int i = 1; i <= batch.size(); i++) {
+            if (i == batch.size() || batch.get(i).level != batch.get(start).level) {
+                out.log(batch.get(start).level, batch.subList(start, i).stream().map(msg -> msg.text)
+                        .collect(Collectors.joining(System.lineSeparator())));
+                start = i;
+            }
+        }
+    }
+
+    private static class Message {
+        private final long seq;
+        private final LogLevel level;
+        private final String text;
+
+        Message(long seq, LogLevel level, String text) {
+            this.seq = seq;
+            this.level = level;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Per-thread buffer. Lock is taken only by the owning thread and the writer (when draining), so
+     * there is no contention between logging threads.
+     */
+    private static class Buffer {
+        private List<Message> messages = new ArrayList<>();
+        private boolean sealed;
+
+        synchronized boolean add(Message message) {
+            if (sealed) {
+                return false;
+            }
+            messages.add(message);
+            return true;
+        }
+
+        void drainTo(List<Message> target, boolean seal) {
+            final List<Message> res;
+            synchronized (this) {
+                sealed = seal;
+                if (messages.isEmpty()) {
+                    return;
+                }
+                res = messages;
+                messages = new ArrayList<>();
+            }
+            target.addAll(res);
+        }
+    }
+}
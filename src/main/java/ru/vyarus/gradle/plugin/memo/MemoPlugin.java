@@ -0,0 +1,20 @@
+package ru.vyarus.gradle.plugin.memo;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+
+/**
+ * Registers memoization cache service ("memo"). Cache size could be changed with service registration:
+ * {@code gradle.sharedServices.registrations.named('memo') { parameters.maxSize = 100 }}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public abstract class MemoPlugin implements Plugin<Project> {
+
+    @Override
+    public void apply(Project project) {
+        project.getGradle().getSharedServices().registerIfAbsent("memo", MemoService.class, spec ->
+                spec.getParameters().getMaxSize().convention(MemoService.DEFAULT_MAX_SIZE));
+    }
+}
@@ -0,0 +1,131 @@
+package ru.vyarus.gradle.plugin.memo;
+
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Build-scoped memoization cache for expensive computations in task actions. Size-bounded LRU cache with
+ * single-flight loading: concurrent calls for the same key compute value only once (other callers wait for the
+ * result). Value is computed outside the cache lock, so loading of different keys is not blocked.
+ * <p>
+ * Failed computation is not cached (next call would compute it again). Waiting callers receive the original
+ * computation exception (not wrapped).
+ * Hit/miss/eviction counters are printed on service close.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public abstract class MemoService implements BuildService<MemoService.Params>, AutoCloseable {
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    // access-ordered map (LRU), guarded by itself
+    private final Map<Object, CompletableFuture<Object>> cache;
+
+    public MemoService() {
+        final int maxSize = getParameters().getMaxSize().getOrElse(DEFAULT_MAX_SIZE);
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, CompletableFuture<Object>> eldest) {
+                final boolean evict = size() > maxSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public interface Params extends BuildServiceParameters {
+        // maximum cached values
+        Property<Integer> getMaxSize();
+    }
+
+    /**
+     * Get cached value or compute it.
+     *
+     * @param key    value key
+     * @param loader value computation (called only if value not cached)
+     * @param <T>    value type
+     * @return cached or computed value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Supplier<T> loader) {
+        final CompletableFuture<Object> future;
+        final boolean owner;
+        synchronized (cache) {
+            final CompletableFuture<Object> cached = cache.get(key);
+            owner = cached == null;
+            if (owner) {
+                future = new CompletableFuture<>();
+                cache.put(key, future);
+            } else {
+                future = cached;
+            }
+        }
+        if (owner) {
+            misses.increment();
+            try {
+                future.complete(loader.get());
+            } catch (Throwable e) {
+                synchronized (cache) {
+                    cache.remove(key, future);
+                }
+                // waiting callers must be released for any failure (including sneaky thrown checked exceptions)
+                future.completeExceptionally(e);
+                throw rethrow(e);
+            }
+        } else {
+            hits.increment();
+        }
+        try {
+            return (T) future.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return getHits() + " hits, " + getMisses() + " misses, " + getEvictions() + " evictions";
+    }
+
+    @Override
+    public void close() throws Exception {
+        // gradle logger used because direct System.out output is sometimes lost on services close
+        Logging.getLogger(MemoService.class).lifecycle("Memo cache: {}", this);
+    }
+
+    /**
+     * Rethrows exception with its own type (checked exception could only appear if loader throws it sneakily).
+     * Declared return type allows {@code throw rethrow(e)} for compiler.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException rethrow(Throwable e) throws E {
+        throw (E) e;
+    }
+}
@@ -0,0 +1,47 @@
+package ru.vyarus.gradle.plugin.pin;
+
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.internal.RegisteredBuildServiceProvider;
+
+/**
+ * Keeps build service instance alive for the entire build. Without it, a service instance created at configuration
+ * time is closed by gradle after configuration (always under the configuration cache) and a new instance is created
+ * for execution (losing state).
+ * <p>
+ * Usual workaround is a task completion listener registration ({@code BuildEventsListenerRegistry.onTaskCompletion})
+ * with an empty {@code onFinish}: gradle never closes listener services early. But listener receives an event
+ * for each task in the build. Listener registration pins service with an internal gradle api call, which is used
+ * here directly (no events subscription).
+ * <p>
+ * Pinning must be done at configuration time (before service creation). Listener services (with real events
+ * processing) don't need pinning. When configuration cache is reused, configuration is not executed: service is not
+ * pinned, but it is also not created before execution (configuration-time state does not exist in this case).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public final class PinnedServices {
+
+    private PinnedServices() {
+    }
+
+    /**
+     * Pin service for the build lifetime.
+     *
+     * @param service service provider (returned by {@code registerIfAbsent})
+     * @throws IllegalArgumentException if provider is not a registered service provider (e.g. mapped provider)
+     * @throws IllegalStateException    if current gradle version does not support pinning
+     */
+    public static void pin(Provider<? extends BuildService<?>> service) {
+        try {
+            if (!(service instanceof RegisteredBuildServiceProvider)) {
+                throw new IllegalArgumentException("Not a registered build service provider: " + service);
+            }
+            ((RegisteredBuildServiceProvider<?, ?>) service).keepAlive();
+        } catch (LinkageError e) {
+            throw new IllegalStateException("Service pinning is not supported by the current gradle version: "
+                    + "register service as a task completion listener instead", e);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package ru.vyarus.gradle.plugin.sample10;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Critical path analysis of executed tasks graph. Critical path is the longest (by duration) chain of dependent
+ * tasks: build can't be faster than this chain, no matter how many workers are used. Task slack shows how long
+ * the task could be delayed without increasing the critical path.
+ * <p>
+ * Dependencies are known only for tracked tasks (collected at configuration time), all other tasks are
+ * considered independent.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.11.2025
+ */
+public class CriticalPath {
+
+    private final List<Node> nodes;
+    private final List<Node> path = new ArrayList<>();
+    private long length;
+    private long wallTime;
+    private long busyTime;
+    private int peakParallelism;
+
+    public CriticalPath(Collection<Timing> timings) {
+        // dependencies always finish before task start, so start time order is a topological order
+        this.nodes = timings.stream()
+                .map(Node::new)
+                .sorted(Comparator.comparingLong((Node it) -> it.timing.start).thenComparingLong(it -> it.timing.end))
+                .collect(Collectors.toList());
+        if (!nodes.isEmpty()) {
+            analyze();
+        }
+    }
+
+    /**
+     * @return critical path duration (sum of critical tasks durations)
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * @return time between the first task start and the last task end
+     */
+    public long getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * @return average number of tasks running at the same time
+     */
+    public double getAverageParallelism() {
+        return wallTime == 0 ? 0 : (double) busyTime / wallTime;
+    }
+
+    /**
+     * @return maximum number of tasks running at the same time
+     */
+    public int getPeakParallelism() {
+        return peakParallelism;
+    }
+
+    /**
+     * @return critical path task paths (in execution order)
+     */
+    public List<String> getPath() {
+        return path.stream().map(it -> it.timing.path).collect(Collectors.toList());
+    }
+
+    /**
+     * @param maxWorkers configured max workers count (0 if unknown)
+     * @return text report
+     */
+    public String report(int maxWorkers) {
+        final StringBuilder res = new StringBuilder()
+                .append("Critical path: ").append(length).append(" ms of ").append(wallTime).append(" ms build time\n")
+                .append("  ").append(String.join(" -> ", getPath())).append('\n')
+                .append(String.format("Parallelism: average %.2f, peak %d (max workers: %s)%n",
+                        getAverageParallelism(), peakParallelism, maxWorkers > 0 ? maxWorkers : "unknown"))
+                .append("\nTasks (start offset, duration, slack; * marks critical tasks):\n");
+        final long buildStart = nodes.isEmpty() ? 0 : nodes.get(0).timing.start;
+        for (Node node : nodes) {
+            res.append(String.format("%s %-40s %8d %8d %8d%n", node.slack == 0 ? "*" : " ", node.timing.path,
+                    node.timing.start - buildStart, node.duration(), node.slack));
+        }
+        return res.toString();
+    }
+
+    private void analyze() {
+        final Map<String, Node> index = new HashMap<>();
+        nodes.forEach(node -> index.put(node.timing.path, node));
+        for (Node node : nodes) {
+            for (String dep : node.timing.dependencies) {
+                final Node depNode = index.get(dep);
+                if (depNode != null) {
+                    node.deps.add(depNode);
+                    depNode.dependents.add(node);
+                }
+            }
+        }
+
+        // forward pass: earliest finish time assuming unlimited workers
+        Node last = null;
+        for (Node node : nodes) {
+            long start = 0;
+            for (Node dep : node.deps) {
+                start = Math.max(start, dep.earliestFinish);
+            }
+            node.earliestFinish = start + node.duration();
+            if (last == null || node.earliestFinish > last.earliestFinish) {
+                last = node;
+            }
+        }
+        length = last.earliestFinish;
+
+        // backward pass: latest finish time not delaying the critical path
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            final Node node = nodes.get(i);
+            long finish = length;
+            for (Node dependent : node.dependents) {
+                finish = Math.min(finish, dependent.latestFinish - dependent.duration());
+            }
+            node.latestFinish = finish;
+            node.slack = finish - node.earliestFinish;
+        }
+
+        // critical chain: from the last critical task back through dependencies without slack
+        Node current = last;
+        while (current != null) {
+            path.add(current);
+            Node next = null;
+            for (Node dep : current.deps) {
+                if (dep.slack == 0 && (next == null || dep.earliestFinish > next.earliestFinish)) {
+                    next = dep;
+                }
+            }
+            current = next;
+        }
+        Collections.reverse(path);
+
+        computeParallelism();
+    }
+
+    private void computeParallelism() {
+        long start = Long.MAX_VALUE;
+        long end = Long.MIN_VALUE;
+        // +1 for task start, -1 for task end (ends go first for the same time)
+        final List<long[]> events = new ArrayList<>(nodes.size() * 2);
+        for (Node node : nodes) {
+            start = Math.min(start, node.timing.start);
+            end = Math.max(end, node.timing.end);
+            busyTime += node.duration();
+            events.add(new long[]{node.timing.start, 1});
+            events.add(new long[]{node.timing.end, -1});
+        }
+        wallTime = end - start;
+        events.sort(Comparator.comparingLong((long[] it) -> it[0]).thenComparingLong(it -> it[1]));
+        int running = 0;
+        for (long[] event : events) {
+            running += (int) event[1];
+            peakParallelism = Math.max(peakParallelism, running);
+        }
+    }
+
+    /**
+     * Executed task timing.
+     */
+    public static class Timing {
+        private final String path;
+        private final long start;
+        private final long end;
+        private final List<String> dependencies;
+
+        public Timing(String path, long start, long end, List<String> dependencies) {
+            this.path = path;
+            this.start = start;
+            this.end = end;
+            this.dependencies = dependencies;
+        }
+    }
+
+    private static class Node {
+        private final Timing timing;
+        private final List<Node> deps = new ArrayList<>();
+        private final List<Node> dependents = new ArrayList<>();
+        private long earliestFinish;
+        private long latestFinish;
+        private long slack;
+
+        Node(Timing timing) {
+            this.timing = timing;
+        }
+
+        long duration() {
+            return Math.max(timing.end - timing.start, 0);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package ru.vyarus.gradle.plugin.sample10;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free task durations histogram with log-linear buckets (values in milliseconds). Values below 16 ms are
+ * counted exactly, larger values are grouped into 8 sub-buckets per power of two (max 12.5% error).
+ * <p>
+ * Recording does not allocate: all buckets are pre-allocated on histogram creation.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.11.2025
+ */
+public class DurationHistogram {
+
+    private static final int LINEAR = 16;
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    // exponents 4..62 (long values are always positive)
+    private static final int BUCKETS = LINEAR + (63 - 4) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param duration duration in milliseconds (negative values counted as 0)
+     */
+    public void record(long duration) {
+        final long value = Math.max(duration, 0);
+        counts.incrementAndGet(bucket(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        long current;
+        do {
+            current = max.get();
+        } while (value > current && !max.compareAndSet(current, value));
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTotal() {
+        return total.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile percentile (0-100)
+     * @return upper bound of bucket, containing percentile value (never greater than max recorded value)
+     */
+    public long percentile(double percentile) {
+        final long cnt = count.get();
+        if (cnt == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(cnt * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * @return json object with count, total, p50, p90, p99 and max values
+     */
+    public String toJson() {
+        return "{\"count\":" + getCount()
+                + ",\"total\":" + getTotal()
+                + ",\"p50\":" + percentile(50)
+                + ",\"p90\":" + percentile(90)
+                + ",\"p99\":" + percentile(99)
+                + ",\"max\":" + getMax() + "}";
+    }
+
+    private static int bucket(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        final int exp = 63 - Long.numberOfLeadingZeros(value);
+        final int sub = (int) (value >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR + (exp - 4) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < LINEAR) {
+            return bucket;
+        }
+        final int exp = (bucket - LINEAR) / SUB_BUCKETS + 4;
+        final int sub = (bucket - LINEAR) % SUB_BUCKETS;
+        final long step = 1L << (exp - SUB_BITS);
+        return (1L << exp) + (sub + 1) * step - 1;
+    }
+}
@@ -5,10 +5,12 @@ import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.provider.Provider;
 import org.gradle.build.event.BuildEventsListenerRegistry;
+import ru.vyarus.gradle.plugin.logger.LoggerService;
 
 import javax.inject.Inject;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Plugin demonstrates tasks state collection and use it in build service task listener.
@@ -21,15 +23,28 @@ public abstract class Sample10Plugin implements Plugin<Project> {
     @Inject
     public abstract BuildEventsListenerRegistry getEventsListenerRegistry();
 
-    // collecting tasks info during configuration phase
-    private final List<TaskDesc> tasksInfo = new CopyOnWriteArrayList<>();
-
     @Override
     public void apply(Project project) {
+        // log level is checked by gradle logger at execution (configuration-time level could be cached)
+        Provider<LoggerService> logger = project.getGradle().getSharedServices()
+                .registerIfAbsent("logger", LoggerService.class);
+
+        // collecting tasks info of all projects during configuration phase
+        Provider<TasksCollector> collector = project.getGradle().getSharedServices()
+                .registerIfAbsent("sample10Tasks", TasksCollector.class);
+
         Provider<Service> service = project.getGradle().getSharedServices()
                 .registerIfAbsent("service", Service.class, spec -> {
-                    System.out.println("Service configured: " + tasksInfo);
-                    spec.getParameters().getValues().value(tasksInfo);
+                    System.out.println("Service configured");
+                    // service configured only once, so descriptors of all projects are set when the task graph
+                    // is ready (still configuration phase: value is stored in the configuration cache)
+                    project.getGradle().getTaskGraph().whenReady(graph ->
+                            spec.getParameters().getValues().set(collector.get().getTasks()));
+                    spec.getParameters().getDurationsReport().set(
+                            project.getLayout().getBuildDirectory().file("sample10/durations.json"));
+                    spec.getParameters().getCriticalPathReport().set(
+                            project.getLayout().getBuildDirectory().file("sample10/critical-path.txt"));
+                    spec.getParameters().getLogger().set(logger);
                 });
 
         getEventsListenerRegistry().onTaskCompletion(service);
@@ -38,23 +53,33 @@ public abstract class Sample10Plugin implements Plugin<Project> {
         project.getTasks().register("task1", TrackedTask.class);
         project.getTasks().register("task2", TrackedTask.class);
 
+        // task dependencies are known only when task graph is ready (still configuration phase)
+        final Map<Task, TaskDesc> projectTasks = new ConcurrentHashMap<>();
+        project.getGradle().getTaskGraph().whenReady(graph -> projectTasks.forEach((task, desc) -> {
+            if (graph.hasTask(task)) {
+                desc.setDependencies(graph.getDependencies(task).stream()
+                        .map(Task::getPath)
+                        .collect(Collectors.toList()));
+            }
+        }));
+
         // capture information about tasks using lazy block - we will need only actually executed tasks
         project.getTasks().withType(TrackedTask.class).configureEach(task -> {
-                captureTaskInfo(task);
+                projectTasks.put(task, captureTaskInfo(collector.get(), task));
                 task.doLast(task1 -> {
-                    final TaskDesc desc = service.get().getParameters().getValues().get().stream()
-                            .filter(taskDesc -> taskDesc.getPath().equals(task.getPath()))
-                            .findAny().orElse(null);
-                    if (!desc.isCalled()) {
-                        System.out.println("Task " + task1.getName() + " doLast");
-                        desc.setCalled(true);
+                    final Service srv = service.get();
+                    srv.setMaxWorkers(((TrackedTask) task1).getStartParameter().getMaxWorkerCount());
+                    if (srv.claim(srv.getTask(task1.getPath()))) {
+                        logger.get().lifecycle("Task %s doLast", task1.getName());
                     }
                 });
         });
     }
 
-    private void captureTaskInfo(Task task) {
+    private TaskDesc captureTaskInfo(TasksCollector collector, Task task) {
         System.out.println("Store task descriptor: " + task.getName());
-        tasksInfo.add(new TaskDesc(task.getName(), task.getPath()));
+        // task class is a generated subclass (TrackedTask_Decorated)
+        final String type = task.getClass().getSimpleName().replace("_Decorated", "");
+        return collector.add(task.getName(), task.getPath(), type);
     }
 }
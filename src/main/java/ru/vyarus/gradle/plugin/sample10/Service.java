@@ -1,22 +1,96 @@
 package ru.vyarus.gradle.plugin.sample10;
 
+import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
 import org.gradle.api.services.BuildService;
 import org.gradle.api.services.BuildServiceParameters;
 import org.gradle.tooling.events.FinishEvent;
 import org.gradle.tooling.events.OperationCompletionListener;
+import org.gradle.tooling.events.task.TaskOperationResult;
+import ru.vyarus.gradle.plugin.logger.LoggerService;
 import org.gradle.tooling.events.task.TaskFinishEvent;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
 /**
  * Sample of collecting task information to use in the build service (task listener).
  *
  * @author Vyacheslav Rusakov
  * @since 19.11.2025
  */
-public abstract class Service implements BuildService<Service.Params>, OperationCompletionListener {
+public abstract class Service implements BuildService<Service.Params>, OperationCompletionListener,
+        AutoCloseable {
+
+    // descriptors resolved once per service instance (parameter value is copied on each get() call)
+    private final Map<String, TaskDesc> tasks;
+    // processed tasks bitset (bit per task ordinal); CAS instead of locks because listener and doLast
+    // blocks could be called concurrently
+    private final AtomicLongArray claimed;
+    // task durations (histograms created once per key, recording is allocation-free)
+    private final Map<String, DurationHistogram> durationsByType = new ConcurrentHashMap<>();
+    private final Map<String, DurationHistogram> durationsByProject = new ConcurrentHashMap<>();
+    // executed tasks timings for critical path analysis
+    private final Map<String, CriticalPath.Timing> timings = new ConcurrentHashMap<>();
+    // --max-workers of the current build (reported by executed tracked tasks)
+    private volatile int maxWorkers;
 
     public Service() {
-        System.out.println("Service created with state: " + getParameters().getValues().get());
+        final List<TaskDesc> values = getParameters().getValues().get();
+        tasks = new HashMap<>(values.size() * 4 / 3 + 1);
+        int maxOrdinal = 0;
+        for (TaskDesc desc : values) {
+            tasks.put(desc.getPath(), desc);
+            maxOrdinal = Math.max(maxOrdinal, desc.getOrdinal());
+        }
+        claimed = new AtomicLongArray((maxOrdinal >>> 6) + 1);
+        System.out.println("Service created with state: " + values);
+    }
+
+    /**
+     * @param path task path
+     * @return task descriptor or null if task is not tracked
+     */
+    public TaskDesc getTask(String path) {
+        return tasks.get(path);
+    }
+
+    /**
+     * Marks task as processed. Only the first call for the same task returns true (exactly-once handling, even
+     * when called concurrently).
+     *
+     * @param desc task descriptor
+     * @return true if task was claimed by this call, false if it was already claimed before
+     */
+    public boolean claim(TaskDesc desc) {
+        final int word = desc.getOrdinal() >>> 6;
+        final long bit = 1L << desc.getOrdinal();
+        long current;
+        do {
+            current = claimed.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(word, current, current | bit));
+        return true;
+    }
+
+    /**
+     * Build services can't access start parameter, so the value is provided by tracked tasks at execution time
+     * (configuration time value would be stale when configuration cache is reused with different
+     * {@code --max-workers}).
+     *
+     * @param maxWorkers current build max workers count
+     */
+    public void setMaxWorkers(int maxWorkers) {
+        this.maxWorkers = maxWorkers;
     }
 
     @Override
@@ -24,22 +98,65 @@ public abstract class Service implements BuildService<Service.Params>, Operation
         if (finishEvent instanceof TaskFinishEvent) {
             TaskFinishEvent taskEvent = (TaskFinishEvent) finishEvent;
             String taskPath = taskEvent.getDescriptor().getTaskPath();
-            TaskDesc desc = getParameters().getValues().get().stream()
-                    .filter(it -> it.getPath().equals(taskPath))
-                    .findFirst().orElse(null);
+            TaskDesc desc = getTask(taskPath);
+            recordDuration(taskPath, desc, taskEvent.getResult());
+            timings.put(taskPath, new CriticalPath.Timing(taskPath, taskEvent.getResult().getStartTime(),
+                    taskEvent.getResult().getEndTime(), desc != null ? desc.getDependencies() : List.of()));
 
             if (desc != null) {
-                if (!desc.isCalled()) {
-                    System.out.println("Task " + taskPath + " listened by service");
-                    desc.setCalled(true);
+                if (claim(desc)) {
+                    getParameters().getLogger().get().lifecycle("Task %s listened by service", taskPath);
                 } else {
-                    System.out.println("Task " + taskPath + " listened, but ignored");
+                    getParameters().getLogger().get().lifecycle("Task %s listened, but ignored", taskPath);
                 }
             }
         }
     }
 
+    @Override
+    public void close() throws Exception {
+        final File report = getParameters().getDurationsReport().getAsFile().getOrNull();
+        if (report != null) {
+            report.getParentFile().mkdirs();
+            Files.writeString(report.toPath(), "{\"byType\":" + toJson(durationsByType)
+                    + ",\"byProject\":" + toJson(durationsByProject) + "}");
+        }
+        final File criticalPath = getParameters().getCriticalPathReport().getAsFile().getOrNull();
+        if (criticalPath != null) {
+            criticalPath.getParentFile().mkdirs();
+            Files.writeString(criticalPath.toPath(), new CriticalPath(timings.values())
+                    .report(maxWorkers));
+        }
+    }
+
+    private void recordDuration(String taskPath, TaskDesc desc, TaskOperationResult result) {
+        final long duration = result.getEndTime() - result.getStartTime();
+        final int idx = taskPath.lastIndexOf(':');
+        // task type is known only for tracked tasks, for other tasks name used instead (usually, tasks with
+        // the same name in different projects are of the same type)
+        final String type = desc != null ? desc.getType() : taskPath.substring(idx + 1);
+        final String project = idx > 0 ? taskPath.substring(0, idx) : ":";
+        durationsByType.computeIfAbsent(type, k -> new DurationHistogram()).record(duration);
+        durationsByProject.computeIfAbsent(project, k -> new DurationHistogram()).record(duration);
+    }
+
+    private String toJson(Map<String, DurationHistogram> histograms) {
+        return histograms.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> "\"" + entry.getKey() + "\":" + entry.getValue().toJson())
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
     interface Params extends BuildServiceParameters {
         ListProperty<TaskDesc> getValues();
+
+        // json report with task durations percentiles (per task type and per project)
+        RegularFileProperty getDurationsReport();
+
+        // text report with executed tasks critical path, slack and parallelism
+        RegularFileProperty getCriticalPathReport();
+
+        // console output from listener (avoids stream lock contention between parallel tasks)
+        Property<LoggerService> getLogger();
     }
 }
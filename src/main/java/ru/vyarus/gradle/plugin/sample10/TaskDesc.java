@@ -1,24 +1,53 @@
 package ru.vyarus.gradle.plugin.sample10;
 
-import java.io.Serializable;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Simple value object.
+ * <p>
+ * Uses compact binary form for serialization (stored in the configuration cache as service parameter): task path
+ * is not stored (restored from project path and task name), project path and type are written as shared
+ * (interned) objects, so repeated values are written only once per stream, numbers are written as varints and
+ * dependencies from the same project are written as task names.
  *
  * @author Vyacheslav Rusakov
  * @since 19.11.2025
  */
-public class TaskDesc implements Serializable {
+public class TaskDesc implements Externalizable {
+    private static final long serialVersionUID = 1;
+
+    // unique task index, assigned at configuration time (used by service to track processed tasks)
+    private int ordinal;
     private String name;
     private String path;
-    private boolean called;
+    // task class simple name
+    private String type;
+    // paths of direct task dependencies in the task graph
+    private List<String> dependencies = new ArrayList<>();
 
     public TaskDesc() {
     }
 
-    public TaskDesc(String name, String path) {
+    public TaskDesc(int ordinal, String name, String path, String type) {
+        this.ordinal = ordinal;
         this.name = name;
         this.path = path;
+        this.type = type;
+    }
+
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
     }
 
     public String getName() {
@@ -37,16 +66,88 @@ public class TaskDesc implements Serializable {
         this.path = path;
     }
 
-    public boolean isCalled() {
-        return called;
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public List<String> getDependencies() {
+        return dependencies;
     }
 
-    public void setCalled(boolean called) {
-        this.called = called;
+    public void setDependencies(List<String> dependencies) {
+        this.dependencies = dependencies;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        final String project = projectPath(path, name);
+        writeVarInt(out, ordinal);
+        out.writeObject(project);
+        out.writeUTF(name);
+        out.writeObject(type == null ? null : type.intern());
+        writeVarInt(out, dependencies.size());
+        for (String dep : dependencies) {
+            final String depName = dep.substring(dep.lastIndexOf(':') + 1);
+            // same project dependency stored as task name
+            final boolean local = project.equals(projectPath(dep, depName));
+            out.writeBoolean(local);
+            out.writeUTF(local ? depName : dep);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        ordinal = readVarInt(in);
+        final String project = (String) in.readObject();
+        name = in.readUTF();
+        path = taskPath(project, name);
+        type = (String) in.readObject();
+        final int count = readVarInt(in);
+        dependencies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final boolean local = in.readBoolean();
+            final String dep = in.readUTF();
+            dependencies.add(local ? taskPath(project, dep) : dep);
+        }
     }
 
     @Override
     public String toString() {
         return name;
     }
+
+    private static String projectPath(String path, String name) {
+        final String project = path.substring(0, path.length() - name.length() - 1);
+        // interned to write the same project path only once per stream
+        return (project.isEmpty() ? ":" : project).intern();
+    }
+
+    private static String taskPath(String project, String name) {
+        return (project.equals(":") ? "" : project) + ":" + name;
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        int val = value;
+        while ((val & ~0x7F) != 0) {
+            out.writeByte((val & 0x7F) | 0x80);
+            val >>>= 7;
+        }
+        out.writeByte(val);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int res = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            res |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return res;
+    }
 }
@@ -0,0 +1,46 @@
+package ru.vyarus.gradle.plugin.sample10;
+
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects tracked task descriptors of all projects during configuration. Plugin instance is created for each
+ * project, but the service is configured only once, so descriptors can't be collected in plugin field (service
+ * would see only tasks of the first configured project).
+ * <p>
+ * Ordinals are assigned by the collector, so they are unique within the build. Descriptors are sorted by task path,
+ * so service parameter value does not depend on projects configuration order.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public abstract class TasksCollector implements BuildService<BuildServiceParameters.None> {
+
+    private final Map<String, TaskDesc> tasks = new ConcurrentSkipListMap<>();
+    private final AtomicInteger ordinals = new AtomicInteger();
+
+    /**
+     * @param name task name
+     * @param path task path
+     * @param type task type
+     * @return created descriptor (with unique ordinal)
+     */
+    public TaskDesc add(String name, String path, String type) {
+        final TaskDesc desc = new TaskDesc(ordinals.getAndIncrement(), name, path, type);
+        tasks.put(path, desc);
+        return desc;
+    }
+
+    /**
+     * @return descriptors of all projects (ordered by task path)
+     */
+    public List<TaskDesc> getTasks() {
+        return new ArrayList<>(tasks.values());
+    }
+}
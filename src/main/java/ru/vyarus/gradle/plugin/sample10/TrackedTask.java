@@ -1,8 +1,11 @@
 package ru.vyarus.gradle.plugin.sample10;
 
+import org.gradle.StartParameter;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.TaskAction;
 
+import javax.inject.Inject;
+
 /**
  * Dummy task - just needed to attach to it.
  *
@@ -11,6 +14,15 @@ import org.gradle.api.tasks.TaskAction;
  */
 public abstract class TrackedTask extends DefaultTask {
 
+    /**
+     * Injected start parameter is actual for the current build (even when configuration cache is reused with
+     * different command line options like {@code --max-workers}).
+     *
+     * @return current build start parameter
+     */
+    @Inject
+    public abstract StartParameter getStartParameter();
+
     @TaskAction
     public void run() {
 
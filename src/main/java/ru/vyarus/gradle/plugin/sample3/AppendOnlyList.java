@@ -0,0 +1,139 @@
+package ru.vyarus.gradle.plugin.sample3;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free append-only list. Values are stored in chunks (each next chunk is twice larger), so appending never
+ * copies existing values (unlike {@link java.util.concurrent.CopyOnWriteArrayList}, copying the entire array on
+ * each add).
+ * <p>
+ * Writer reserves index with an atomic counter and publishes value with a volatile write. Readers see only
+ * the published prefix of the list (value reserved, but not yet written, hides all next values).
+ * Snapshot is an immutable view of the current prefix (no copying).
+ * <p>
+ * Null values are not allowed. Only {@link #add(Object)} modification is supported. Maximum list size is
+ * {@code Integer.MAX_VALUE - 15} (27 chunks: the next chunk size would not fit into int).
+ *
+ * @param <T> value type
+ * @author Vyacheslav Rusakov
+ * @since 19.11.2025
+ */
+public class AppendOnlyList<T> extends AbstractList<T> implements RandomAccess {
+
+    // first chunk size 16
+    private static final int FIRST_CHUNK_BITS = 4;
+    // the largest chunk size is 2^30 (2^31 is not a valid array size)
+    private static final int MAX_CHUNKS = Integer.SIZE - 1 - FIRST_CHUNK_BITS;
+    // total size of all chunks: 16 * (2^27 - 1)
+    private static final int CAPACITY = ((1 << MAX_CHUNKS) - 1) << FIRST_CHUNK_BITS;
+
+    private final AtomicReferenceArray<AtomicReferenceArray<T>> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+    private final AtomicInteger reserved = new AtomicInteger();
+    // published prefix size (lazily updated by readers)
+    private final AtomicInteger published = new AtomicInteger();
+
+    @Override
+    public boolean add(T value) {
+        Objects.requireNonNull(value, "Null values not supported");
+        final int index = reserved.getAndIncrement();
+        // negative when counter overflows after many failed appends
+        if (index < 0 || index >= CAPACITY) {
+            throw new IllegalStateException("List is full (" + CAPACITY + " values)");
+        }
+        final int chunk = chunkIndex(index);
+        chunk(chunk).set(offset(index, chunk), value);
+        return true;
+    }
+
+    @Override
+    public T get(int index) {
+        final int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return read(index);
+    }
+
+    @Override
+    public int size() {
+        final int count = reserved.get();
+        // reservations above capacity are failed appends (counter could even overflow)
+        final int limit = count < 0 || count > CAPACITY ? CAPACITY : count;
+        int current = published.get();
+        int size = current;
+        while (size < limit && read(size) != null) {
+            size++;
+        }
+        // other readers could advance it concurrently
+        while (size > current && !published.compareAndSet(current, size)) {
+            current = published.get();
+        }
+        return size;
+    }
+
+    /**
+     * @return immutable view of the currently published values
+     */
+    public List<T> snapshot() {
+        return new Snapshot(size());
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return snapshot().iterator();
+    }
+
+    private T read(int index) {
+        final int chunk = chunkIndex(index);
+        final AtomicReferenceArray<T> values = chunks.get(chunk);
+        return values == null ? null : values.get(offset(index, chunk));
+    }
+
+    private AtomicReferenceArray<T> chunk(int index) {
+        AtomicReferenceArray<T> res = chunks.get(index);
+        if (res == null) {
+            final AtomicReferenceArray<T> chunk = new AtomicReferenceArray<>(1 << (FIRST_CHUNK_BITS + index));
+            res = chunks.compareAndSet(index, null, chunk) ? chunk : chunks.get(index);
+        }
+        return res;
+    }
+
+    // chunk k contains indexes [16 * (2^k - 1), 16 * (2^(k+1) - 1))
+    private static int chunkIndex(int index) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros((index >>> FIRST_CHUNK_BITS) + 1);
+    }
+
+    private static int offset(int index, int chunk) {
+        return index - (((1 << chunk) - 1) << FIRST_CHUNK_BITS);
+    }
+
+    /**
+     * Immutable view of list prefix (values in prefix are never changed).
+     */
+    private class Snapshot extends AbstractList<T> implements RandomAccess {
+        private final int size;
+
+        Snapshot(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+            }
+            return read(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
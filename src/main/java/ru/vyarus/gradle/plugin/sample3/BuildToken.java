@@ -0,0 +1,41 @@
+package ru.vyarus.gradle.plugin.sample3;
+
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.util.UUID;
+
+/**
+ * Unique build identity. Service is pinned (see {@link ru.vyarus.gradle.plugin.pin.PinnedServices}), so gradle
+ * keeps the same instance for the entire build and the token does not change within the build. Used to not restore
+ * shared service snapshot, stored by the previous build.
+ * <p>
+ * Token also remembers if snapshot was written in the current build: new service instance reads snapshot file only
+ * in this case (so the file is never read by the first instance in the build).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public abstract class BuildToken implements BuildService<BuildServiceParameters.None> {
+
+    private final String id = UUID.randomUUID().toString();
+    private volatile boolean snapshotWritten;
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return true if service snapshot was written in the current build
+     */
+    public boolean isSnapshotWritten() {
+        return snapshotWritten;
+    }
+
+    /**
+     * Called after snapshot writing.
+     */
+    public void snapshotWritten() {
+        snapshotWritten = true;
+    }
+}
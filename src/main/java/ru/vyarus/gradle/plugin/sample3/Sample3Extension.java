@@ -6,4 +6,6 @@ package ru.vyarus.gradle.plugin.sample3;
  */
 public class Sample3Extension {
     public String message = "Default";
+    // store service state on close and restore it in the next service instance (within the same build)
+    public boolean persistState = false;
 }
@@ -3,6 +3,8 @@ package ru.vyarus.gradle.plugin.sample3;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildServiceRegistration;
+import ru.vyarus.gradle.plugin.pin.PinnedServices;
 
 /**
  * Shows build service used for tasks communication.
@@ -26,6 +28,10 @@ public abstract class Sample3Plugin implements Plugin<Project> {
 
         // configuration value set DIRECTLY (to show difference)
         project.afterEvaluate(p -> {
+            if (ext.persistState) {
+                // must be enabled before service creation
+                enablePersistence(project);
+            }
             service.get().extParam = ext.message;
             System.out.println("[configuration] Project evaluated. Direct assigning: " + ext.message + " to service " + service.get() + ")");
         });
@@ -49,4 +55,19 @@ public abstract class Sample3Plugin implements Plugin<Project> {
             });
         });
     }
+
+    @SuppressWarnings("unchecked")
+    private void enablePersistence(Project project) {
+        final SharedService.Params params = ((BuildServiceRegistration<SharedService, SharedService.Params>) project
+                .getGradle().getSharedServices().getRegistrations().getByName("service")).getParameters();
+        if (!params.getSnapshot().isPresent()) {
+            // token registered only when persistence enabled
+            final Provider<BuildToken> token = project.getGradle().getSharedServices()
+                    .registerIfAbsent("buildToken", BuildToken.class);
+            // token must not change within the build
+            PinnedServices.pin(token);
+            params.getSnapshot().set(project.getLayout().getBuildDirectory().file("sample3/service.snapshot"));
+            params.getBuildToken().set(token);
+        }
+    }
 }
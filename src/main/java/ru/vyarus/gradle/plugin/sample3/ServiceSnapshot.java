@@ -0,0 +1,128 @@
+package ru.vyarus.gradle.plugin.sample3;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link SharedService} state snapshot, stored in a memory-mapped file. Snapshot is bound to the build (token):
+ * snapshot of the previous build is ignored.
+ * <p>
+ * Format: magic, token, field value (-1 length for null) and list values. Strings are written as length + UTF-8
+ * bytes.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public final class ServiceSnapshot {
+
+    private static final int MAGIC = 0x53334E50;
+
+    private final String extParam;
+    private final List<String> list;
+
+    public ServiceSnapshot(String extParam, List<String> list) {
+        this.extParam = extParam;
+        this.list = list;
+    }
+
+    public String getExtParam() {
+        return extParam;
+    }
+
+    public List<String> getList() {
+        return list;
+    }
+
+    /**
+     * Write snapshot, replacing the previous one.
+     *
+     * @param file  snapshot file
+     * @param token current build token
+     */
+    public void write(File file, String token) {
+        final List<byte[]> values = new ArrayList<>(list.size());
+        int size = Integer.BYTES * 4 + utfLength(token) + utfLength(extParam);
+        for (String value : list) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            values.add(bytes);
+            size += Integer.BYTES + bytes.length;
+        }
+        try {
+            Files.createDirectories(file.getParentFile().toPath());
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(MAGIC);
+                writeString(buffer, token);
+                writeString(buffer, extParam);
+                buffer.putInt(values.size());
+                for (byte[] value : values) {
+                    buffer.putInt(value.length);
+                    buffer.put(value);
+                }
+                buffer.force();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write service snapshot: " + file, e);
+        }
+    }
+
+    /**
+     * @param file  snapshot file
+     * @param token current build token
+     * @return snapshot or null if file not exists or created by another build
+     */
+    public static ServiceSnapshot read(File file, String token) {
+        if (!file.exists()) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC
+                    || !token.equals(readString(buffer))) {
+                return null;
+            }
+            final String extParam = readString(buffer);
+            final int count = buffer.getInt();
+            final List<String> list = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                list.add(readString(buffer));
+            }
+            return new ServiceSnapshot(extParam, list);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read service snapshot: " + file, e);
+        }
+    }
+
+    private static int utfLength(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,11 +1,14 @@
 package ru.vyarus.gradle.plugin.sample3;
 
+import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.services.BuildService;
 import org.gradle.api.services.BuildServiceParameters;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * @author Vyacheslav Rusakov
@@ -14,16 +17,40 @@ import java.util.concurrent.CopyOnWriteArrayList;
 public abstract class SharedService implements BuildService<SharedService.Params>, AutoCloseable {
 
     public String extParam;
-    // tasks might be executed in parallel (this simply avoids ConcurrentModificationException)
-    public List<String> list = new CopyOnWriteArrayList<>();
+    // tasks might be executed in parallel (lock-free list without copying on each add)
+    public List<String> list = new AppendOnlyList<>();
+    // resolved once (pinned service, the same instance for the entire build)
+    private BuildToken token;
 
     public SharedService() {
         // could appear both in configuration and execution time
         System.out.println("Shared service created " + System.identityHashCode(this) + "@");
+        // opt-in: restore state of the previous instance (closed by gradle) in the same build
+        if (getParameters().getSnapshot().isPresent()) {
+            token = getParameters().getBuildToken().get();
+            // file is not touched by the first instance in the build: file, remaining from the previous build,
+            // must not become a configuration cache input
+            if (token.isSnapshotWritten()) {
+                final File file = getParameters().getSnapshot().get().getAsFile();
+                final ServiceSnapshot snapshot = ServiceSnapshot.read(file, token.getId());
+                if (snapshot != null) {
+                    extParam = snapshot.getExtParam();
+                    list.addAll(snapshot.getList());
+                    System.out.println("Shared service state restored: " + this);
+                }
+                // snapshot consumed
+                deleteSnapshot(file);
+            }
+        }
     }
 
     public interface Params extends BuildServiceParameters {
         Property<String> getExtParam();
+
+        // state snapshot file (persistence enabled only when specified)
+        RegularFileProperty getSnapshot();
+
+        Property<BuildToken> getBuildToken();
     }
 
     @Override
@@ -37,5 +64,19 @@ public abstract class SharedService implements BuildService<SharedService.Params
     @Override
     public void close() throws Exception {
         System.out.println("Shared service closed: " + System.identityHashCode(this));
+        if (token != null) {
+            // it is not known if gradle would create one more instance in this build, so snapshot is always written
+            // (snapshot of the last instance is never read: the next build has a different token)
+            new ServiceSnapshot(extParam, list).write(getParameters().getSnapshot().get().getAsFile(), token.getId());
+            token.snapshotWritten();
+        }
+    }
+
+    private static void deleteSnapshot(File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to delete service snapshot: " + file, e);
+        }
     }
 }
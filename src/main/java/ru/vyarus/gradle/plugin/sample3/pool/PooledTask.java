@@ -0,0 +1,37 @@
+package ru.vyarus.gradle.plugin.sample3.pool;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.TaskAction;
+import ru.vyarus.gradle.plugin.sample3.SharedService;
+
+/**
+ * Task, using pooled handle for its work.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public abstract class PooledTask extends DefaultTask {
+
+    @Internal
+    public abstract Property<ResourcePool> getPool();
+
+    @Internal
+    public abstract Property<SharedService> getService();
+
+    // simulated work duration (ms)
+    @Input
+    public abstract Property<Long> getWorkTime();
+
+    @TaskAction
+    public void run() throws InterruptedException {
+        try (ResourcePool.Lease lease = getPool().get().lease()) {
+            // work with leased client
+            Thread.sleep(getWorkTime().get());
+            getService().get().list.add(getName());
+            System.out.println("[run] " + getName() + " used " + lease.getHandle());
+        }
+    }
+}
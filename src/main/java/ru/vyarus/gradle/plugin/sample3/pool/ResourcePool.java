@@ -0,0 +1,162 @@
+package ru.vyarus.gradle.plugin.sample3.pool;
+
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of reusable handles (each handle stands for an expensive client like connection or compiler instance).
+ * Handles are created lazily (not more than pool size). Tasks lease a handle and must return it after usage
+ * (try-with-resources).
+ * <p>
+ * Pool size should be also declared as service max parallel usages (and tasks must declare service usage) so gradle
+ * would not schedule more tasks than available handles (no waiting inside pool).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public abstract class ResourcePool implements BuildService<ResourcePool.Params>, AutoCloseable {
+
+    private final long started = System.nanoTime();
+    private final BlockingQueue<Handle> idle;
+    private final AtomicInteger created = new AtomicInteger();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder waitTime = new LongAdder();
+    private final AtomicLong maxWait = new AtomicLong();
+    private final LongAdder busyTime = new LongAdder();
+
+    public ResourcePool() {
+        idle = new ArrayBlockingQueue<>(getParameters().getSize().get());
+    }
+
+    public interface Params extends BuildServiceParameters {
+        Property<Integer> getSize();
+    }
+
+    /**
+     * Lease handle (blocks until handle is available).
+     *
+     * @return leased handle (must be closed after usage)
+     */
+    public Lease lease() {
+        final long start = System.nanoTime();
+        Handle handle = idle.poll();
+        if (handle == null) {
+            handle = create();
+        }
+        if (handle == null) {
+            try {
+                handle = idle.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for pooled handle", e);
+            }
+        }
+        final long wait = System.nanoTime() - start;
+        leases.increment();
+        waitTime.add(wait);
+        maxWait.accumulateAndGet(wait, Math::max);
+        return new Lease(handle);
+    }
+
+    /**
+     * @return created handles count
+     */
+    public int getCreated() {
+        return created.get();
+    }
+
+    /**
+     * @return pool usage statistics
+     */
+    public String getStats() {
+        final long count = leases.sum();
+        final int size = getParameters().getSize().get();
+        final long lifetime = System.nanoTime() - started;
+        return String.format(Locale.ROOT,
+                "%d leases, %d of %d handles created, wait avg %.2f ms, max %.2f ms, utilization %.1f%%",
+                count, created.get(), size, count == 0 ? 0 : waitTime.sum() / (double) count / 1_000_000,
+                maxWait.get() / 1_000_000.0, busyTime.sum() * 100.0 / ((double) lifetime * size));
+    }
+
+    @Override
+    public void close() throws Exception {
+        System.out.println("Pool closed: " + getStats());
+    }
+
+    // null if pool is full
+    private Handle create() {
+        final int size = getParameters().getSize().get();
+        int current;
+        do {
+            current = created.get();
+            if (current >= size) {
+                return null;
+            }
+        } while (!created.compareAndSet(current, current + 1));
+        return new Handle(current + 1);
+    }
+
+    /**
+     * Expensive client stand-in.
+     */
+    public static class Handle {
+        private final int id;
+        private final AtomicInteger uses = new AtomicInteger();
+
+        public Handle(int id) {
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public int getUses() {
+            return uses.get();
+        }
+
+        @Override
+        public String toString() {
+            return "handle " + id;
+        }
+    }
+
+    /**
+     * Leased handle. Returns handle into pool on close.
+     */
+    public class Lease implements AutoCloseable {
+        private final Handle handle;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Lease(Handle handle) {
+            this.handle = handle;
+            handle.uses.incrementAndGet();
+        }
+
+        public Handle getHandle() {
+            return handle;
+        }
+
+        /**
+         * Returns handle into pool. Repeated calls are ignored (otherwise the same handle would appear twice in pool).
+         */
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            busyTime.add(System.nanoTime() - start);
+            idle.add(handle);
+        }
+    }
+}
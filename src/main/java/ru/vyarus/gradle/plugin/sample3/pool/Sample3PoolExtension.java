@@ -0,0 +1,16 @@
+package ru.vyarus.gradle.plugin.sample3.pool;
+
+import ru.vyarus.gradle.plugin.sample3.Sample3Extension;
+
+/**
+ * Extension with pool configuration.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public class Sample3PoolExtension extends Sample3Extension {
+    // pooled handles count (and maximum parallel service usages)
+    public int poolSize = 2;
+    // simulated work duration (ms) in each task
+    public long workTime = 100;
+}
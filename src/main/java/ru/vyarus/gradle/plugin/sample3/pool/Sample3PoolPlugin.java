@@ -0,0 +1,42 @@
+package ru.vyarus.gradle.plugin.sample3.pool;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.provider.Provider;
+import ru.vyarus.gradle.plugin.sample3.SharedService;
+
+/**
+ * Shared service with a pool of expensive resources: service capacity declared with max parallel usages, so gradle
+ * would not run more tasks, using it, than available handles.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public abstract class Sample3PoolPlugin implements Plugin<Project> {
+
+    @Override
+    public void apply(Project project) {
+        final Sample3PoolExtension ext = project.getExtensions().create("sample3", Sample3PoolExtension.class);
+        final Provider<SharedService> service = project.getGradle().getSharedServices().registerIfAbsent(
+                "service", SharedService.class, spec ->
+                        spec.getParameters().getExtParam().convention(project.provider(() -> ext.message)));
+        final Provider<ResourcePool> pool = project.getGradle().getSharedServices().registerIfAbsent(
+                "pool", ResourcePool.class, spec -> {
+                    spec.getParameters().getSize().set(project.provider(() -> ext.poolSize));
+                    // gradle would not run more tasks (declared service usage) in parallel
+                    spec.getMaxParallelUsages().set(project.provider(() -> ext.poolSize));
+                });
+
+        project.getTasks().withType(PooledTask.class).configureEach(task -> {
+            // required for parallel usages limitation
+            task.usesService(pool);
+            task.usesService(service);
+            task.getPool().set(pool);
+            task.getService().set(service);
+            task.getWorkTime().convention(project.provider(() -> ext.workTime));
+        });
+
+        project.getTasks().register("task1", PooledTask.class);
+        project.getTasks().register("task2", PooledTask.class);
+    }
+}
@@ -0,0 +1,18 @@
+package ru.vyarus.gradle.plugin.sample3.singleton;
+
+import ru.vyarus.gradle.plugin.sample3.Sample3Extension;
+
+/**
+ * Extension with listener configuration.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public class Sample3SingletonExtension extends Sample3Extension {
+    // task path regex: finish events of not matched tasks are ignored (null to accept all)
+    public String taskFilter;
+    // accept finish events only for tasks declaring service usage (usesService)
+    public boolean onlyServiceUsers = false;
+    // maximum list items rendered in service toString
+    public int renderLimit = 10;
+}
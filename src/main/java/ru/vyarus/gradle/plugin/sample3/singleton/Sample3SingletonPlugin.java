@@ -2,11 +2,16 @@ package ru.vyarus.gradle.plugin.sample3.singleton;
 
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.execution.TaskExecutionGraph;
+import org.gradle.api.internal.TaskInternal;
 import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
 import org.gradle.build.event.BuildEventsListenerRegistry;
-import ru.vyarus.gradle.plugin.sample3.Sample3Extension;
 
 import javax.inject.Inject;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Same as the original plugin, but service is also a task listener, which prevents gradle from closing it early.
@@ -21,7 +26,8 @@ public abstract class Sample3SingletonPlugin implements Plugin<Project> {
 
     @Override
     public void apply(Project project) {
-        final Sample3Extension ext = project.getExtensions().create("sample3", Sample3Extension.class);
+        final Sample3SingletonExtension ext = project.getExtensions()
+                .create("sample3", Sample3SingletonExtension.class);
         // IMPORTANT: service not created at this moment! It's just a provider
         // It is also important to not resolve it too early because parameters might be initialized with defaults
         // (user-defined configuration might not be applied to extension yet)
@@ -29,6 +35,22 @@ public abstract class Sample3SingletonPlugin implements Plugin<Project> {
                 "service", SharedServiceSingleton.class, spec -> {
                     // configuration value set with parameter
                     spec.getParameters().getExtParam().convention(project.provider(() -> ext.message));
+                    // listener events filter
+                    spec.getParameters().getTaskFilter().set(project.provider(() -> ext.taskFilter));
+                    spec.getParameters().getRenderLimit().set(project.provider(() -> ext.renderLimit));
+                    // tasks declaring service usage (including user tasks) are known only when task graph is ready
+                    // (still configuration phase, so value is stored in the configuration cache)
+                    project.getGradle().getTaskGraph().whenReady(graph -> {
+                        if (ext.onlyServiceUsers) {
+                            final Provider<? extends BuildService<?>> self = project.getGradle()
+                                    .getSharedServices().getRegistrations().getByName("service").getService();
+                            final Set<String> users = findServiceUsers(graph, self);
+                            spec.getParameters().getServiceUsers().set(users);
+                            // service instance was already created at configuration time (afterEvaluate below)
+                            // and, without configuration cache, the same instance is used at execution
+                            ((SharedServiceSingleton) self.get()).setServiceUsers(users);
+                        }
+                    });
                 });
         // service listens for tasks completion, which prevents gradle from stopping it in the middle of the build
         getEventsListenerRegistry().onTaskCompletion(service);
@@ -39,17 +61,20 @@ public abstract class Sample3SingletonPlugin implements Plugin<Project> {
             System.out.println("[configuration] Project evaluated. Direct assigning: " + ext.message + " to service " + service.get() + ")");
         });
 
-        project.getTasks().register("task1").configure(task ->
-                task.doLast(task1 -> {
-                    final SharedServiceSingleton sharedService = service.get();
-                    sharedService.list.add("Task 1");
-                    System.out.println("[run] Task 1 shared object: " + sharedService);
-                }));
+        project.getTasks().register("task1").configure(task -> {
+            task.usesService(service);
+            task.doLast(task1 -> {
+                final SharedServiceSingleton sharedService = service.get();
+                sharedService.list.add("Task 1");
+                System.out.println("[run] Task 1 shared object: " + sharedService);
+            });
+        });
 
         project.getTasks().register("task2").configure(task -> {
             // For predictable execution sequence (simpler to validate in test).
             // Without it, tasks will run concurrently!
             task.mustRunAfter("task1");
+            task.usesService(service);
 
             task.doLast(task1 -> {
                 final SharedServiceSingleton sharedService = service.get();
@@ -58,4 +83,13 @@ public abstract class Sample3SingletonPlugin implements Plugin<Project> {
             });
         });
     }
+
+    // gradle does not provide public api for declared service usages, so internal api used
+    private static Set<String> findServiceUsers(TaskExecutionGraph graph,
+                                                Provider<? extends BuildService<?>> service) {
+        return graph.getAllTasks().stream()
+                .filter(task -> ((TaskInternal) task).getRequiredServices().isServiceRequired(service))
+                .map(Task::getPath)
+                .collect(Collectors.toSet());
+    }
 }
@@ -1,13 +1,17 @@
 package ru.vyarus.gradle.plugin.sample3.singleton;
 
 import org.gradle.api.provider.Property;
+import org.gradle.api.provider.SetProperty;
 import org.gradle.api.services.BuildService;
 import org.gradle.api.services.BuildServiceParameters;
 import org.gradle.tooling.events.FinishEvent;
 import org.gradle.tooling.events.OperationCompletionListener;
+import org.gradle.tooling.events.task.TaskOperationDescriptor;
+import ru.vyarus.gradle.plugin.sample3.AppendOnlyList;
 
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * @author Vyacheslav Rusakov
@@ -17,25 +21,56 @@ public abstract class SharedServiceSingleton implements BuildService<SharedServi
         OperationCompletionListener {
 
     public String extParam;
-    // tasks might be executed in parallel (this simply avoids ConcurrentModificationException)
-    public List<String> list = new CopyOnWriteArrayList<>();
+    // tasks might be executed in parallel (lock-free list without copying on each add)
+    public List<String> list = new AppendOnlyList<>();
+
+    // events filter (resolved once to not do it for each event)
+    private final Pattern taskFilter;
+    private volatile Set<String> serviceUsers;
+    private final int renderLimit;
 
     public SharedServiceSingleton() {
         System.out.println("Shared service created " + System.identityHashCode(this) + "@");
+        taskFilter = getParameters().getTaskFilter().isPresent()
+                ? Pattern.compile(getParameters().getTaskFilter().get()) : null;
+        serviceUsers = getParameters().getServiceUsers().getOrNull();
+        renderLimit = getParameters().getRenderLimit().getOrElse(Integer.MAX_VALUE);
     }
 
     public interface Params extends BuildServiceParameters {
         Property<String> getExtParam();
+
+        // task path regex
+        Property<String> getTaskFilter();
+
+        // paths of tasks, declared service usage
+        SetProperty<String> getServiceUsers();
+
+        // maximum rendered list items
+        Property<Integer> getRenderLimit();
+    }
+
+    /**
+     * Service could be created before the task graph is ready (when accessed at configuration time): in this case
+     * service users filter (known only with task graph) is applied directly.
+     *
+     * @param serviceUsers paths of tasks, declared service usage
+     */
+    public void setServiceUsers(Set<String> serviceUsers) {
+        this.serviceUsers = serviceUsers;
     }
 
     @Override
     public void onFinish(FinishEvent finishEvent) {
-        System.out.println("Finish event: " + finishEvent.getDescriptor().getName() + " caught on service " + this);
+        // filter applied before any other work
+        if (accept(finishEvent)) {
+            System.out.println("Finish event: " + finishEvent.getDescriptor().getName() + " caught on service " + this);
+        }
     }
 
     @Override
     public String toString() {
-        return System.identityHashCode(this) + "@" + list.toString()
+        return System.identityHashCode(this) + "@" + render()
                 + ", param: " + getParameters().getExtParam().getOrNull()
                 + ", field: " + extParam;
     }
@@ -45,4 +80,32 @@ public abstract class SharedServiceSingleton implements BuildService<SharedServi
     public void close() throws Exception {
         System.out.println("Shared service closed: " + System.identityHashCode(this));
     }
+
+    private boolean accept(FinishEvent event) {
+        final Set<String> users = serviceUsers;
+        if (taskFilter == null && users == null) {
+            return true;
+        }
+        final String path = event.getDescriptor() instanceof TaskOperationDescriptor
+                ? ((TaskOperationDescriptor) event.getDescriptor()).getTaskPath() : event.getDescriptor().getName();
+        return (users == null || users.contains(path))
+                && (taskFilter == null || taskFilter.matcher(path).matches());
+    }
+
+    // renders not more than limit items (constant cost for large lists)
+    private String render() {
+        final int size = list.size();
+        final int rendered = Math.min(size, renderLimit);
+        final StringBuilder res = new StringBuilder("[");
+        for (int i = 0; i < rendered; i++) {
+            if (i > 0) {
+                res.append(", ");
+            }
+            res.append(list.get(i));
+        }
+        if (rendered < size) {
+            res.append(rendered > 0 ? ", " : "").append("... (").append(size - rendered).append(" more)");
+        }
+        return res.append(']').toString();
+    }
 }
@@ -0,0 +1,60 @@
+package ru.vyarus.gradle.plugin.sample3.staged;
+
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts service instances created within the build. Service is pinned, so gradle keeps the same instance for
+ * the entire build (see {@link ru.vyarus.gradle.plugin.pin.PinnedServices}).
+ * <p>
+ * Each service instance, created after the first one, is a wasted creation: usually, service was accessed at
+ * configuration time and closed by gradle before execution (always under the configuration cache). Warning is
+ * printed on build finish.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public abstract class CreationTracker implements BuildService<BuildServiceParameters.None>, AutoCloseable {
+
+    private final Logger logger = Logging.getLogger(CreationTracker.class);
+    private final Map<String, AtomicInteger> creations = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param service created service name
+     */
+    public void created(String service) {
+        creations.computeIfAbsent(service, name -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * @param service service name
+     * @return service instances created in the current build
+     */
+    public int getCreations(String service) {
+        final AtomicInteger count = creations.get(service);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * @return wasted service creations (all services) in the current build
+     */
+    public int getWasted() {
+        return creations.values().stream().mapToInt(count -> Math.max(count.get() - 1, 0)).sum();
+    }
+
+    @Override
+    public void close() throws Exception {
+        creations.forEach((service, count) -> {
+            if (count.get() > 1) {
+                logger.warn("Service '{}' was created {} times in this build ({} wasted): "
+                        + "avoid accessing it at configuration time", service, count.get(), count.get() - 1);
+            }
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package ru.vyarus.gradle.plugin.sample3.staged;
+
+import ru.vyarus.gradle.plugin.sample3.Sample3Extension;
+
+/**
+ * Extension with staged writes configuration.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class Sample3StagedExtension extends Sample3Extension {
+    // stage configuration-time writes instead of direct service modification
+    public boolean staged = true;
+}
@@ -0,0 +1,70 @@
+package ru.vyarus.gradle.plugin.sample3.staged;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.provider.Provider;
+import ru.vyarus.gradle.plugin.pin.PinnedServices;
+
+/**
+ * Same as the original plugin, but configuration-time service modification is staged (recorded in service
+ * parameters) and applied by the service instance, created at execution time. Service is not created at
+ * configuration time at all.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public abstract class Sample3StagedPlugin implements Plugin<Project> {
+
+    static final String SERVICE = "stagedService";
+
+    @Override
+    public void apply(Project project) {
+        final Sample3StagedExtension ext = project.getExtensions().create("sample3", Sample3StagedExtension.class);
+        final Provider<CreationTracker> tracker = project.getGradle().getSharedServices()
+                .registerIfAbsent("creationTracker", CreationTracker.class);
+        // tracker must not change within the build
+        PinnedServices.pin(tracker);
+        final Provider<StagedService> service = project.getGradle().getSharedServices().registerIfAbsent(
+                SERVICE, StagedService.class, spec -> {
+                    spec.getParameters().getName().set(SERVICE);
+                    spec.getParameters().getExtParam().convention(project.provider(() -> ext.message));
+                    spec.getParameters().getTracker().set(tracker);
+                });
+        final StagedWrites writes = new StagedWrites(project, SERVICE);
+
+        project.afterEvaluate(p -> {
+            if (ext.staged) {
+                // service is not created
+                writes.setExtParam(ext.message);
+                writes.add("Configuration " + p.getPath());
+                System.out.println("[configuration] Project evaluated. Staged assigning: " + ext.message);
+            } else {
+                service.get().extParam = ext.message;
+                service.get().list.add("Configuration " + p.getPath());
+                System.out.println("[configuration] Project evaluated. Direct assigning: " + ext.message
+                        + " to service " + service.get() + ")");
+            }
+        });
+
+        project.getTasks().register("task1").configure(task -> {
+            task.usesService(service);
+            task.doLast(task1 -> {
+                final StagedService sharedService = service.get();
+                sharedService.list.add("Task 1");
+                System.out.println("[run] Task 1 shared object: " + sharedService);
+            });
+        });
+
+        project.getTasks().register("task2").configure(task -> {
+            // For predictable execution sequence (simpler to validate in test).
+            task.mustRunAfter("task1");
+            task.usesService(service);
+
+            task.doLast(task1 -> {
+                final StagedService sharedService = service.get();
+                sharedService.list.add("Task 2");
+                System.out.println("[run] Task 2 shared object: " + sharedService);
+            });
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package ru.vyarus.gradle.plugin.sample3.staged;
+
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import ru.vyarus.gradle.plugin.sample3.AppendOnlyList;
+
+import java.util.List;
+
+/**
+ * Shared service with staged configuration-time writes: instead of direct service modification at configuration
+ * time (which creates service instance, closed by gradle before execution), writes are recorded into service
+ * parameters (see {@link StagedWrites}) and applied by the first created instance.
+ * <p>
+ * Parameters are stored in the configuration cache, so staged writes are applied also when cache is reused.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public abstract class StagedService implements BuildService<StagedService.Params>, AutoCloseable {
+
+    public String extParam;
+    // tasks might be executed in parallel (lock-free list without copying on each add)
+    public List<String> list = new AppendOnlyList<>();
+
+    public StagedService() {
+        System.out.println("Staged service created " + System.identityHashCode(this) + "@");
+        getParameters().getTracker().get().created(getParameters().getName().get());
+        // apply staged writes (delta)
+        if (getParameters().getStagedExtParam().isPresent()) {
+            extParam = getParameters().getStagedExtParam().get();
+        }
+        list.addAll(getParameters().getStagedValues().get());
+    }
+
+    public interface Params extends BuildServiceParameters {
+        // service registration name (for creations tracking)
+        Property<String> getName();
+
+        Property<String> getExtParam();
+
+        // staged field assignment (last write wins)
+        Property<String> getStagedExtParam();
+
+        // staged list additions
+        ListProperty<String> getStagedValues();
+
+        Property<CreationTracker> getTracker();
+    }
+
+    @Override
+    public String toString() {
+        return System.identityHashCode(this) + "@" + list.toString()
+                + ", param: " + getParameters().getExtParam().getOrNull()
+                + ", field: " + extParam;
+    }
+
+    @Override
+    public void close() throws Exception {
+        System.out.println("Staged service closed: " + System.identityHashCode(this));
+    }
+}
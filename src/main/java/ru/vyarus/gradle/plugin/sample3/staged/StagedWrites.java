@@ -0,0 +1,43 @@
+package ru.vyarus.gradle.plugin.sample3.staged;
+
+import org.gradle.api.Project;
+import org.gradle.api.services.BuildServiceRegistration;
+
+/**
+ * Configuration-time writes for {@link StagedService} without service instantiation. Writes are recorded into
+ * the service registration parameters (cheap), so the same registration could be updated by all projects.
+ * <p>
+ * Writes must be done before service creation: after that, parameters are not read anymore (so any service access
+ * at configuration time makes all next writes useless).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class StagedWrites {
+
+    private final StagedService.Params params;
+
+    @SuppressWarnings("unchecked")
+    public StagedWrites(Project project, String serviceName) {
+        params = ((BuildServiceRegistration<StagedService, StagedService.Params>) project.getGradle()
+                .getSharedServices().getRegistrations().getByName(serviceName)).getParameters();
+    }
+
+    /**
+     * Staged {@code service.extParam = value}.
+     *
+     * @param value field value
+     */
+    public void setExtParam(String value) {
+        params.getStagedExtParam().set(value);
+    }
+
+    /**
+     * Staged {@code service.list.add(value)}.
+     *
+     * @param value list value
+     */
+    public void add(String value) {
+        params.getStagedValues().add(value);
+    }
+}
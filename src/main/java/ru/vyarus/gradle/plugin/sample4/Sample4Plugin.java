@@ -3,6 +3,7 @@ package ru.vyarus.gradle.plugin.sample4;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.provider.Provider;
+import ru.vyarus.gradle.plugin.memo.MemoService;
 
 /**
  * Plugin shows that providers are cached, but react on property changes. Direct method calls preserved.
@@ -14,19 +15,27 @@ public class Sample4Plugin implements Plugin<Project> {
 
     @Override
     public void apply(Project project) {
+        // computed messages memoized within the build
+        final Provider<MemoService> memo = project.getGradle().getSharedServices()
+                .registerIfAbsent("memo", MemoService.class);
         project.getTasks().register("task1").configure(task -> {
+            task.usesService(memo);
             Provider<String> provider = project.provider(() -> {
                 String res = String.valueOf(project.findProperty("startTime"));
                 System.out.println("Provider called: " + res);
                 return res;
             });
             task.doLast(task1 -> {
-                System.out.println("Task exec / static value: " + computeMessage("static"));
-                System.out.println("Task exec / provider value: " + computeMessage("provider " + provider.get()));
+                System.out.println("Task exec / static value: " + memoized(memo, "static"));
+                System.out.println("Task exec / provider value: " + memoized(memo, "provider " + provider.get()));
             });
         });
     }
 
+    private String memoized(Provider<MemoService> memo, String source) {
+        return memo.get().get(source, () -> computeMessage(source));
+    }
+
     private String computeMessage(String source) {
         System.out.println("called computeMessage('" + source + "')");
         return "Computed message: " + source;
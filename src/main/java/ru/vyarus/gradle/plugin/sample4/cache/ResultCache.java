@@ -0,0 +1,319 @@
+package ru.vyarus.gradle.plugin.sample4.cache;
+
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Persistent (cross-build) cache for task action computations, keyed by inputs fingerprint.
+ * <p>
+ * Cache directory contains memory-mapped index file (open addressing hash table with linear probing) and value
+ * files (one file per value). Index slot: key (64 bits of inputs SHA-256), last access time and value size.
+ * Header: magic, slots count, entries count and total values size.
+ * <p>
+ * Index is modified only under exclusive file lock (safe for parallel builds in different processes) and
+ * JVM-wide lock per index file (file lock is held by the process, not thread, and the second lock of the same file
+ * in one JVM fails with {@link java.nio.channels.OverlappingFileLockException}: possible for two service instances,
+ * e.g. in two builds, running in the same daemon). Value computation performed without lock.
+ * Value file written into temp file and atomically moved, so readers never see partially written value.
+ * Least recently used values evicted when cache exceeds maximum size or entries count.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public abstract class ResultCache implements BuildService<ResultCache.Params>, AutoCloseable {
+
+    public static final long DEFAULT_MAX_SIZE = 10 * 1024 * 1024;
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private static final int MAGIC = 0x52434958;
+    private static final int HEADER = 24;
+    private static final int SLOT = 24;
+    // index canonical path -> in-process lock
+    private static final Map<String, Lock> LOCKS = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final Path values;
+    private final long maxSize;
+    private final int slots;
+    private final FileChannel channel;
+    private final MappedByteBuffer index;
+    private final Lock lock;
+
+    public ResultCache() {
+        final File dir = getParameters().getDirectory().get().getAsFile();
+        values = dir.toPath().resolve("values");
+        maxSize = getParameters().getMaxSize().getOrElse(DEFAULT_MAX_SIZE);
+        // load factor 0.5 to keep probe sequences short
+        slots = getParameters().getMaxEntries().getOrElse(DEFAULT_MAX_ENTRIES) * 2;
+        try {
+            Files.createDirectories(values);
+            final File file = new File(dir, "index");
+            lock = LOCKS.computeIfAbsent(file.getCanonicalPath(), path -> new ReentrantLock());
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            index = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + (long) slots * SLOT);
+            locked(() -> {
+                if (index.getInt(0) != MAGIC || index.getInt(4) != slots) {
+                    // new index or different capacity: drop all values
+                    reset();
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open result cache: " + dir, e);
+        }
+    }
+
+    public interface Params extends BuildServiceParameters {
+        // cache directory
+        DirectoryProperty getDirectory();
+
+        // maximum total values size (bytes)
+        Property<Long> getMaxSize();
+
+        // maximum cached values count
+        Property<Integer> getMaxEntries();
+    }
+
+    /**
+     * @param inputs computation inputs
+     * @return inputs fingerprint (cache key)
+     */
+    public static long fingerprint(String... inputs) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String input : inputs) {
+                digest.update(input.getBytes(StandardCharsets.UTF_8));
+                // separator to avoid ["ab", "c"] and ["a", "bc"] collision
+                digest.update((byte) 0);
+            }
+            final byte[] hash = digest.digest();
+            long res = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                res = (res << 8) | (hash[i] & 0xFF);
+            }
+            // 0 marks empty slot
+            return res == 0 ? 1 : res;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Get cached value or compute (and store) it.
+     *
+     * @param key     inputs fingerprint
+     * @param compute value computation
+     * @return cached or computed value
+     */
+    public String get(long key, Supplier<String> compute) {
+        if (touch(key)) {
+            try {
+                final String res = Files.readString(valueFile(key));
+                hits.increment();
+                return res;
+            } catch (NoSuchFileException e) {
+                // evicted by concurrent build: compute again
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read cached value", e);
+            }
+        }
+        misses.increment();
+        final String res = compute.get();
+        put(key, res.getBytes(StandardCharsets.UTF_8));
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return hits.sum() + " hits, " + misses.sum() + " misses, " + evictions.sum() + " evictions";
+    }
+
+    @Override
+    public void close() throws Exception {
+        channel.close();
+        Logging.getLogger(ResultCache.class).lifecycle("Result cache: {}", this);
+    }
+
+    // update access time of existing value
+    private boolean touch(long key) {
+        return locked(() -> {
+            final int slot = find(key);
+            if (index.getLong(offset(slot)) == key) {
+                index.putLong(offset(slot) + 8, System.currentTimeMillis());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void put(long key, byte[] value) {
+        try {
+            // value written without lock (atomic move)
+            final Path tmp = Files.createTempFile(values, "value", ".tmp");
+            Files.write(tmp, value);
+            Files.move(tmp, valueFile(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write cached value", e);
+        }
+        locked(() -> {
+            int slot = find(key);
+            if (index.getLong(offset(slot)) == key) {
+                // stored by concurrent build
+                setTotal(getTotal() - index.getInt(offset(slot) + 16));
+            } else {
+                while (getCount() >= slots / 2 || getTotal() + value.length > maxSize && getCount() > 0) {
+                    evictEldest();
+                }
+                slot = find(key);
+                index.putInt(8, getCount() + 1);
+            }
+            final int pos = offset(slot);
+            index.putLong(pos, key);
+            index.putLong(pos + 8, System.currentTimeMillis());
+            index.putInt(pos + 16, value.length);
+            setTotal(getTotal() + value.length);
+            return null;
+        });
+    }
+
+    // slot with the key or empty slot where the key should be placed
+    private int find(long key) {
+        int slot = home(key);
+        long current;
+        while ((current = index.getLong(offset(slot))) != 0 && current != key) {
+            slot = (slot + 1) % slots;
+        }
+        return slot;
+    }
+
+    private void evictEldest() {
+        int eldest = -1;
+        long time = Long.MAX_VALUE;
+        for (int i = 0; i < slots; i++) {
+            final int pos = offset(i);
+            if (index.getLong(pos) != 0 && index.getLong(pos + 8) < time) {
+                time = index.getLong(pos + 8);
+                eldest = i;
+            }
+        }
+        final long key = index.getLong(offset(eldest));
+        setTotal(getTotal() - index.getInt(offset(eldest) + 16));
+        index.putInt(8, getCount() - 1);
+        remove(eldest);
+        try {
+            Files.deleteIfExists(valueFile(key));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to remove cached value", e);
+        }
+        evictions.increment();
+    }
+
+    // backward shift deletion (keeps probe sequences without tombstones)
+    private void remove(int slot) {
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) % slots;
+            final long key = index.getLong(offset(next));
+            if (key == 0) {
+                break;
+            }
+            final int home = home(key);
+            // entry could be moved into the hole if its home slot is not inside (hole, next]
+            final boolean movable = hole <= next ? home <= hole || home > next : home <= hole && home > next;
+            if (movable) {
+                for (int i = 0; i < SLOT; i += Long.BYTES) {
+                    index.putLong(offset(hole) + i, index.getLong(offset(next) + i));
+                }
+                hole = next;
+            }
+        }
+        for (int i = 0; i < SLOT; i += Long.BYTES) {
+            index.putLong(offset(hole) + i, 0);
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < HEADER + slots * SLOT; i += Integer.BYTES) {
+            index.putInt(i, 0);
+        }
+        index.putInt(0, MAGIC);
+        index.putInt(4, slots);
+        try (Stream<Path> files = Files.list(values)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to reset result cache", e);
+        }
+    }
+
+    // in-process lock first: file lock must be acquired only once in JVM
+    private <T> T locked(Supplier<T> action) {
+        lock.lock();
+        try {
+            final FileLock fileLock = channel.lock();
+            try {
+                return action.get();
+            } finally {
+                fileLock.release();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to lock result cache index", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int home(long key) {
+        return (int) Long.remainderUnsigned(key, slots);
+    }
+
+    private int getCount() {
+        return index.getInt(8);
+    }
+
+    private long getTotal() {
+        return index.getLong(16);
+    }
+
+    private void setTotal(long total) {
+        index.putLong(16, total);
+    }
+
+    private Path valueFile(long key) {
+        return values.resolve(Long.toHexString(key));
+    }
+
+    private static int offset(int slot) {
+        return HEADER + slot * SLOT;
+    }
+}
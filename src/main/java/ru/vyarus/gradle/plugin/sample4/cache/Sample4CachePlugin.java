@@ -0,0 +1,48 @@
+package ru.vyarus.gradle.plugin.sample4.cache;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.provider.Provider;
+
+/**
+ * Same as sample 4 plugin, but method call results are stored in persistent cache (under project .gradle directory),
+ * so warm builds skip computations with unchanged inputs.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public class Sample4CachePlugin implements Plugin<Project> {
+
+    @Override
+    public void apply(Project project) {
+        final Provider<ResultCache> cache = project.getGradle().getSharedServices().registerIfAbsent(
+                "resultCache", ResultCache.class, spec -> {
+                    spec.getParameters().getDirectory().set(
+                            project.getRootProject().getLayout().getProjectDirectory().dir(".gradle/sample4-cache"));
+                    spec.getParameters().getMaxSize().convention(ResultCache.DEFAULT_MAX_SIZE);
+                    spec.getParameters().getMaxEntries().convention(ResultCache.DEFAULT_MAX_ENTRIES);
+                });
+        project.getTasks().register("task1").configure(task -> {
+            task.usesService(cache);
+            Provider<String> provider = project.provider(() -> {
+                String res = String.valueOf(project.findProperty("startTime"));
+                System.out.println("Provider called: " + res);
+                return res;
+            });
+            task.doLast(task1 -> {
+                System.out.println("Task exec / static value: " + cached(cache, "static"));
+                System.out.println("Task exec / provider value: " + cached(cache, "provider " + provider.get()));
+            });
+        });
+    }
+
+    private String cached(Provider<ResultCache> cache, String source) {
+        // key includes computation name and all inputs
+        return cache.get().get(ResultCache.fingerprint("computeMessage", source), () -> computeMessage(source));
+    }
+
+    private String computeMessage(String source) {
+        System.out.println("called computeMessage('" + source + "')");
+        return "Computed message: " + source;
+    }
+}
@@ -0,0 +1,60 @@
+package ru.vyarus.gradle.plugin.sample4.value;
+
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.provider.SetProperty;
+import org.gradle.api.provider.ValueSource;
+import org.gradle.api.provider.ValueSourceParameters;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads declared system properties and environment variables in one {@code obtain()} call. Under the configuration
+ * cache, each value source, used at configuration time, is fingerprinted and re-checked on cache reuse: one batched
+ * source instead of many separate sources reduces check overhead.
+ * <p>
+ * Environment variables are stored with "env." prefix. Missing values are not included into the resulting map.
+ * Obtained values count is logged with info level (to see when source is obtained).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public abstract class BatchedValues implements ValueSource<Map<String, String>, BatchedValues.Params> {
+
+    public static final String ENV_PREFIX = "env.";
+
+    public interface Params extends ValueSourceParameters {
+        SetProperty<String> getSystemProperties();
+
+        SetProperty<String> getEnvironmentVariables();
+    }
+
+    @Override
+    public Map<String, String> obtain() {
+        final Map<String, String> res = new HashMap<>();
+        for (String key : getParameters().getSystemProperties().get()) {
+            final String value = System.getProperty(key);
+            if (value != null) {
+                res.put(key, value);
+            }
+        }
+        for (String key : getParameters().getEnvironmentVariables().get()) {
+            final String value = System.getenv(key);
+            if (value != null) {
+                res.put(ENV_PREFIX + key, value);
+            }
+        }
+        Logging.getLogger(BatchedValues.class).info("BatchedValues: {} values", res.size());
+        return Map.copyOf(res);
+    }
+
+    /**
+     * @param values batched values provider
+     * @param key    value key (environment variables with "env." prefix)
+     * @return provider of single value (empty provider if value is missing)
+     */
+    public static Provider<String> key(Provider<Map<String, String>> values, String key) {
+        return values.map(map -> map.get(key));
+    }
+}
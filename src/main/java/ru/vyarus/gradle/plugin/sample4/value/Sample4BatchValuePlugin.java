@@ -0,0 +1,44 @@
+package ru.vyarus.gradle.plugin.sample4.value;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.provider.Provider;
+
+import java.util.Map;
+
+/**
+ * Same as {@link Sample4ValuePlugin}, but multiple values are read with one batched value source.
+ * Derived providers are computed only when used. One value is used at configuration time, so the source is
+ * a configuration cache input (cache invalidated when any batched value changes).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public class Sample4BatchValuePlugin implements Plugin<Project> {
+
+    @Override
+    public void apply(Project project) {
+        final Provider<Map<String, String>> values = project.getProviders().of(BatchedValues.class, spec ->
+                spec.getParameters().getSystemProperties().addAll("foo", "bar"));
+        // value used at configuration time: batched source becomes a configuration cache input
+        System.out.println("Configuration / foo value: " + BatchedValues.key(values, "foo").getOrNull());
+        final Provider<String> foo = BatchedValues.key(values, "foo").map(val -> computeMessage("foo " + val));
+        final Provider<String> bar = BatchedValues.key(values, "bar").map(val -> computeMessage("bar " + val));
+
+        project.getTasks().register("task1").configure(task ->
+                task.doLast(task1 -> System.out.println("Task exec / foo value: " + foo.getOrNull())));
+
+        project.getTasks().register("task2").configure(task -> {
+            task.mustRunAfter("task1");
+            task.doLast(task1 -> {
+                System.out.println("Task exec / foo value: " + foo.getOrNull());
+                System.out.println("Task exec / bar value: " + bar.getOrNull());
+            });
+        });
+    }
+
+    private String computeMessage(String source) {
+        System.out.println("called computeMessage('" + source + "')");
+        return "Computed message: " + source;
+    }
+}
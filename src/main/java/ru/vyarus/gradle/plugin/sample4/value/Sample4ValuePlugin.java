@@ -3,6 +3,7 @@ package ru.vyarus.gradle.plugin.sample4.value;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.provider.Provider;
+import ru.vyarus.gradle.plugin.memo.MemoService;
 
 /**
  * Shows the difference of Provider and ValueSource.
@@ -14,16 +15,24 @@ public class Sample4ValuePlugin implements Plugin<Project> {
 
     @Override
     public void apply(Project project) {
+        // computed messages memoized within the build
+        final Provider<MemoService> memo = project.getGradle().getSharedServices()
+                .registerIfAbsent("memo", MemoService.class);
         project.getTasks().register("task1").configure(task -> {
+            task.usesService(memo);
             final Provider<String> provider = project.getProviders()
                     .of(NonCacheableValue.class, noneValueSourceSpec -> {});
             task.doLast(task1 -> {
-                System.out.println("Task exec / static value: " + computeMessage("static " + System.getProperty("foo")));
-                System.out.println("Task exec / provider value: " + computeMessage("provider " + provider.get()));
+                System.out.println("Task exec / static value: " + memoized(memo, "static " + System.getProperty("foo")));
+                System.out.println("Task exec / provider value: " + memoized(memo, "provider " + provider.get()));
             });
         });
     }
 
+    private String memoized(Provider<MemoService> memo, String source) {
+        return memo.get().get(source, () -> computeMessage(source));
+    }
+
     private String computeMessage(String source) {
         System.out.println("called computeMessage('" + source + "')");
         return "Computed message: " + source;
@@ -3,9 +3,8 @@ package ru.vyarus.gradle.plugin.sample6;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.provider.Provider;
-import org.gradle.build.event.BuildEventsListenerRegistry;
+import ru.vyarus.gradle.plugin.pin.PinnedServices;
 
-import javax.inject.Inject;
 import java.util.List;
 
 /**
@@ -17,16 +16,13 @@ import java.util.List;
  */
 public abstract class Sample6Plugin implements Plugin<Project> {
 
-    @Inject
-    public abstract BuildEventsListenerRegistry getEventsListenerRegistry();
-
     @Override
     public void apply(Project project) {
         // service 1 with "state" in a private field
         Provider<Service1> service1 = project.getGradle().getSharedServices()
                 .registerIfAbsent("service1", Service1.class);
         // service 1 must not be closed; otherwise the stored (in it) configuration state would be lost
-        getEventsListenerRegistry().onTaskCompletion(service1);
+        PinnedServices.pin(service1);
 
         // service 2 just with a link to service 1
         Provider<Service2> service2 = project.getGradle().getSharedServices().registerIfAbsent(
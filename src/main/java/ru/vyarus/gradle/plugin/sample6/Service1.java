@@ -2,8 +2,6 @@ package ru.vyarus.gradle.plugin.sample6;
 
 import org.gradle.api.services.BuildService;
 import org.gradle.api.services.BuildServiceParameters;
-import org.gradle.tooling.events.FinishEvent;
-import org.gradle.tooling.events.OperationCompletionListener;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -12,8 +10,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * @author Vyacheslav Rusakov
  * @since 08.08.2025
  */
-public abstract class Service1 implements BuildService<BuildServiceParameters.None>,
-        OperationCompletionListener, AutoCloseable {
+public abstract class Service1 implements BuildService<BuildServiceParameters.None>, AutoCloseable {
 
     private final List<String> state = new CopyOnWriteArrayList<>();
 
@@ -30,17 +27,12 @@ public abstract class Service1 implements BuildService<BuildServiceParameters.No
     }
 
     // ATTENTION: if service state is populated under the configuration phase, then gradle almost
-    //  certainly will close it before execution, so better to implement listener to prevent it
+    //  certainly will close it before execution, so service must be pinned to prevent it
     public void addState(String value) {
         state.add(value);
         System.out.println("Added value '" + value + "': " + printState());
     }
 
-    @Override
-    public void onFinish(FinishEvent finishEvent) {
-        // only to prevent closing
-    }
-
     @Override
     public void close() throws Exception {
         System.out.println("Service 1 closed");
@@ -0,0 +1,16 @@
+package ru.vyarus.gradle.plugin.sample6.warm;
+
+/**
+ * Extension with warm-up configuration.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class Sample6WarmExtension {
+    // initialize services in background on the first task start
+    public boolean warmUp = true;
+    // simulated initialization time (ms) of each service
+    public int initTime = 1000;
+    // simulated work duration (ms) in each task before service usage
+    public long workTime = 1000;
+}
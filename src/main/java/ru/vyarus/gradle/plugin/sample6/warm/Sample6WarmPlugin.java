@@ -0,0 +1,78 @@
+package ru.vyarus.gradle.plugin.sample6.warm;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.provider.Provider;
+
+/**
+ * Slow services initialization in background: services graph (warm2 depends on warm1) is initialized in parallel
+ * as soon as the first task starts, so tasks find services already created (instead of initializing them
+ * sequentially on the first usage).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public abstract class Sample6WarmPlugin implements Plugin<Project> {
+
+    @Override
+    public void apply(Project project) {
+        final Sample6WarmExtension ext = project.getExtensions().create("sample6", Sample6WarmExtension.class);
+
+        final Provider<SlowService> warm1 = register(project, ext, "warm1", null);
+        final Provider<SlowService> warm2 = register(project, ext, "warm2", warm1);
+        final Provider<SlowService> warm3 = register(project, ext, "warm3", null);
+
+        final WarmServices warmServices = new WarmServices(project)
+                .warm("warm1", warm1)
+                .warm("warm2", warm2, "warm1")
+                .warm("warm3", warm3);
+
+        registerTask(project, ext, "task1", warm2);
+        registerTask(project, ext, "task2", warm3);
+
+        project.afterEvaluate(p -> {
+            if (ext.warmUp) {
+                // any task could start warm-up (only the first one would)
+                p.getTasks().named("task1").configure(warmServices::startOn);
+                p.getTasks().named("task2").configure(warmServices::startOn);
+            }
+        });
+    }
+
+    private Provider<SlowService> register(Project project, Sample6WarmExtension ext, String name,
+                                           Provider<SlowService> dependency) {
+        return project.getGradle().getSharedServices().registerIfAbsent(name, SlowService.class, spec -> {
+            spec.getParameters().getName().set(name);
+            spec.getParameters().getInitTime().set(project.provider(() -> ext.initTime));
+            if (dependency != null) {
+                spec.getParameters().getDependency().set(dependency);
+            }
+        });
+    }
+
+    private void registerTask(Project project, Sample6WarmExtension ext, String name, Provider<SlowService> service) {
+        project.getTasks().register(name, task -> {
+            task.usesService(service);
+            final Provider<Long> workTime = project.provider(() -> ext.workTime);
+            task.doLast(task1 -> {
+                final long start = System.currentTimeMillis();
+                // some task work before service usage
+                sleep(workTime.get());
+                final long serviceStart = System.currentTimeMillis();
+                final SlowService srv = service.get();
+                System.out.println(task1.getName() + " got service " + srv.getName() + " after "
+                        + (System.currentTimeMillis() - serviceStart) + " ms wait (task "
+                        + (System.currentTimeMillis() - start) + " ms)");
+            });
+        });
+    }
+
+    private static void sleep(long time) {
+        try {
+            Thread.sleep(time);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package ru.vyarus.gradle.plugin.sample6.warm;
+
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Initializes declared services in background threads. Each service is initialized after all its dependencies
+ * (independent services initialized in parallel). Service initialization error is ignored (task, requesting
+ * service, will receive it); dependent services are not initialized in this case.
+ * <p>
+ * Initialization times are printed when build finishes.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public abstract class ServiceWarmUp implements BuildService<ServiceWarmUp.Params>, AutoCloseable {
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    // preserve initialization order in report
+    private final Map<String, Long> initTimes = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, Throwable> failures = new ConcurrentHashMap<>();
+    private volatile ExecutorService executor;
+    private volatile CompletableFuture<Void> all;
+    private volatile long startTime;
+    private volatile long endTime;
+
+    /**
+     * Start services initialization (only the first call starts warm-up, other calls are ignored).
+     *
+     * @param services warm services (ordered: dependencies declared before dependent services)
+     */
+    public void start(List<WarmService> services) {
+        if (services.isEmpty() || !started.compareAndSet(false, true)) {
+            return;
+        }
+        startTime = System.nanoTime();
+        final AtomicInteger threadNum = new AtomicInteger();
+        // initialization is usually io-bound, so all independent services initialized in parallel by default
+        final int threads = Math.min(services.size(), getParameters().getThreads().getOrElse(services.size()));
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "service-warm-up-" + threadNum.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+        for (WarmService service : services) {
+            final List<CompletableFuture<Void>> deps = new ArrayList<>();
+            service.getDependsOn().forEach(dep -> deps.add(futures.get(dep)));
+            futures.put(service.getName(), allOf(deps).thenRunAsync(() -> init(service), executor));
+        }
+        all = allOf(futures.values());
+    }
+
+    @Override
+    public void close() {
+        if (executor == null) {
+            return;
+        }
+        final boolean finished = all.isDone();
+        executor.shutdownNow();
+        final String times;
+        if (initTimes.isEmpty()) {
+            // end time is known only for initialized services
+            times = "nothing initialized";
+        } else {
+            final long total = initTimes.values().stream().mapToLong(Long::longValue).sum();
+            times = initTimes.entrySet().stream()
+                    .map(entry -> entry.getKey() + " " + ms(entry.getValue()) + " ms")
+                    .collect(Collectors.joining(", "))
+                    + " (total " + ms(total) + " ms, "
+                    + (finished ? "wall " + ms(endTime - startTime) + " ms" : "not finished") + ")";
+        }
+        System.out.println("Services warm-up: " + times
+                + (failures.isEmpty() ? "" : ", failed: " + failures.keySet()));
+    }
+
+    private void init(WarmService service) {
+        final long start = System.nanoTime();
+        try {
+            service.getService().get();
+            final long end = System.nanoTime();
+            initTimes.put(service.getName(), end - start);
+            synchronized (this) {
+                endTime = Math.max(endTime, end);
+            }
+        } catch (Exception ex) {
+            // error is not printed: task, requesting service, would receive it
+            failures.put(service.getName(), ex);
+            // dependent services would not be initialized
+            throw ex;
+        }
+    }
+
+    private static CompletableFuture<Void> allOf(Collection<CompletableFuture<Void>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private static long ms(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    public interface Params extends BuildServiceParameters {
+        // maximum parallel initializations (all services by default)
+        Property<Integer> getThreads();
+    }
+}
@@ -0,0 +1,38 @@
+package ru.vyarus.gradle.plugin.sample6.warm;
+
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * Service with slow initialization (e.g. loading some index or connecting to remote server). Could depend on
+ * other service, which must be initialized first.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public abstract class SlowService implements BuildService<SlowService.Params> {
+
+    public SlowService() throws InterruptedException {
+        if (getParameters().getDependency().isPresent()) {
+            // dependency initialization (or waiting for it)
+            getParameters().getDependency().get();
+        }
+        Thread.sleep(getParameters().getInitTime().get());
+        System.out.println("Service " + getParameters().getName().get() + " created in thread "
+                + Thread.currentThread().getName());
+    }
+
+    public String getName() {
+        return getParameters().getName().get();
+    }
+
+    public interface Params extends BuildServiceParameters {
+        Property<String> getName();
+
+        // initialization time in ms
+        Property<Integer> getInitTime();
+
+        Property<SlowService> getDependency();
+    }
+}
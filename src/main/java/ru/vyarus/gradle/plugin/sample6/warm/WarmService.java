@@ -0,0 +1,38 @@
+package ru.vyarus.gradle.plugin.sample6.warm;
+
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+
+import java.util.List;
+
+/**
+ * Warm service declaration: service provider and names of services, which must be initialized before it.
+ * Stored in the configuration cache (captured in task action), so contains only service reference.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class WarmService {
+
+    private final String name;
+    private final Provider<? extends BuildService<?>> service;
+    private final List<String> dependsOn;
+
+    public WarmService(String name, Provider<? extends BuildService<?>> service, List<String> dependsOn) {
+        this.name = name;
+        this.service = service;
+        this.dependsOn = dependsOn;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Provider<? extends BuildService<?>> getService() {
+        return service;
+    }
+
+    public List<String> getDependsOn() {
+        return dependsOn;
+    }
+}
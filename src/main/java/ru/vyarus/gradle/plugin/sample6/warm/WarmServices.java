@@ -0,0 +1,61 @@
+package ru.vyarus.gradle.plugin.sample6.warm;
+
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Configuration-time declaration of warm services: services, initialized in background (in parallel, according to
+ * dependencies) as soon as the first task (with attached warm-up) starts.
+ * <p>
+ * Dependencies must be declared before dependent service, so services graph could not contain cycles.
+ * Tasks do not need to wait for the warm-up: gradle synchronizes service creation, so task, requesting service
+ * during its background initialization, would just wait for it (and service would be created in task thread,
+ * if background initialization was not yet started).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class WarmServices {
+
+    private final List<WarmService> services = new ArrayList<>();
+    private final Provider<ServiceWarmUp> warmUp;
+
+    public WarmServices(Project project) {
+        warmUp = project.getGradle().getSharedServices().registerIfAbsent("serviceWarmUp", ServiceWarmUp.class);
+    }
+
+    /**
+     * @param name      service name (used for dependencies declaration and in warm-up report)
+     * @param service   service provider
+     * @param dependsOn names of (already declared) services, which must be initialized before this service
+     * @return declarations instance for chained calls
+     */
+    public WarmServices warm(String name, Provider<? extends BuildService<?>> service, String... dependsOn) {
+        for (String dep : dependsOn) {
+            if (services.stream().noneMatch(it -> it.getName().equals(dep))) {
+                throw new IllegalArgumentException("Warm service '" + name + "' depends on undeclared service '"
+                        + dep + "' (dependencies must be declared first)");
+            }
+        }
+        services.add(new WarmService(name, service, Arrays.asList(dependsOn)));
+        return this;
+    }
+
+    /**
+     * Start services warm-up before task execution (if not yet started by other task).
+     *
+     * @param task task
+     */
+    public void startOn(Task task) {
+        final Provider<ServiceWarmUp> warmUp = this.warmUp;
+        final List<WarmService> services = this.services;
+        task.usesService(warmUp);
+        task.doFirst(task1 -> warmUp.get().start(services));
+    }
+}
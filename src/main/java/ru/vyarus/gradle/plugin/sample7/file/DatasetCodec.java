@@ -0,0 +1,31 @@
+package ru.vyarus.gradle.plugin.sample7.file;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * {@link DatasetFile} record format. Codec is stored in the configuration cache together with the dataset file
+ * reference, so it must be serializable (stateless singleton like {@link StringCodec}).
+ *
+ * @param <T> record type
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public interface DatasetCodec<T> extends Serializable {
+
+    /**
+     * @param out   output
+     * @param value record to write
+     * @throws IOException on write error
+     */
+    void write(DataOutput out, T value) throws IOException;
+
+    /**
+     * @param in record bytes
+     * @return record
+     * @throws IOException on read error
+     */
+    T read(DataInput in) throws IOException;
+}
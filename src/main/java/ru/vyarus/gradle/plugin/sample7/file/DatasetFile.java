@@ -0,0 +1,243 @@
+package ru.vyarus.gradle.plugin.sample7.file;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.zip.CRC32;
+
+/**
+ * Service parameter value for large configuration-time datasets. Dataset is written into a binary file at
+ * configuration time and only the file path, its length, modification time and header checksum are stored in the
+ * configuration cache (so loading the cache entry does not depend on dataset size). File is memory-mapped on
+ * the first {@link #values()} call: when service (or parameter) is not used, dataset is not loaded at all.
+ * <p>
+ * File header is read after writing (to compute checksum), so gradle registers it as configuration cache input:
+ * when file removed or changed, configuration cache entry is invalidated and file is written again. On the first
+ * access, length and modification time are compared and header checksum is verified (records are not hashed: the
+ * whole file is not read just to check it). This is a trade-off: records modification, preserving file length,
+ * within the file system modification time resolution is not detected.
+ * <p>
+ * File should be stored outside the build directory (e.g. in {@code .gradle}): {@code clean} in the same build
+ * (with reused configuration cache entry) would remove the file after the cache entry check, but before the service
+ * would load it.
+ * <p>
+ * Format: magic, records count, records offsets (relative to the first record) and records. Records are
+ * decoded on access (list view is immutable).
+ *
+ * @param <T> record type
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public final class DatasetFile<T> implements Serializable {
+
+    private static final long serialVersionUID = 2;
+    private static final int MAGIC = 0x44534554;
+
+    private final String path;
+    private final long length;
+    private final long lastModified;
+    private final long checksum;
+    private final int size;
+    private final DatasetCodec<T> codec;
+    private transient volatile List<T> values;
+
+    private DatasetFile(File file, long checksum, int size, DatasetCodec<T> codec) {
+        this.path = file.getAbsolutePath();
+        this.length = file.length();
+        this.lastModified = file.lastModified();
+        this.checksum = checksum;
+        this.size = size;
+        this.codec = codec;
+    }
+
+    /**
+     * Write dataset file (replacing existing file). Records are streamed into the file (only the header with records
+     * offsets is kept in memory).
+     *
+     * @param file   target file
+     * @param values records
+     * @param codec  records codec
+     * @param <T>    records type
+     * @return dataset file reference
+     */
+    public static <T> DatasetFile<T> write(File file, Collection<T> values, DatasetCodec<T> codec) {
+        try {
+            final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * (values.size() + 2));
+            header.putInt(MAGIC).putInt(values.size());
+            Files.createDirectories(file.getParentFile().toPath());
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                // records written after the header (offsets known only after records encoding)
+                channel.position(header.capacity());
+                final DataOutputStream records = new DataOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel)));
+                for (T value : values) {
+                    header.putInt(records.size());
+                    codec.write(records, value);
+                }
+                records.flush();
+                header.flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+            }
+            // reading file (instead of using written bytes) registers it as configuration cache input
+            final ByteBuffer written = ByteBuffer.allocate(header.capacity());
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                while (written.hasRemaining() && channel.read(written) >= 0) {
+                    // read header
+                }
+            }
+            return new DatasetFile<>(file, checksum(written.flip()), values.size(), codec);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write dataset file: " + file, e);
+        }
+    }
+
+    public File getFile() {
+        return new File(path);
+    }
+
+    /**
+     * @return CRC32 of file header (records count and offsets)
+     */
+    public long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * @return records count (known without loading file)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if records were already loaded
+     */
+    public boolean isLoaded() {
+        return values != null;
+    }
+
+    /**
+     * Maps dataset file on the first call.
+     *
+     * @return immutable records list
+     * @throws IllegalStateException if file was removed or changed
+     */
+    public List<T> values() {
+        if (values == null) {
+            synchronized (this) {
+                if (values == null) {
+                    values = load();
+                }
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return isLoaded() ? values.toString() : "dataset of " + size + " records: " + path;
+    }
+
+    private List<T> load() {
+        final File file = getFile();
+        if (!file.exists()) {
+            throw new IllegalStateException("Dataset file not found: " + file);
+        }
+        if (file.length() != length || file.lastModified() != lastModified) {
+            throw new IllegalStateException("Dataset file was changed after configuration: " + file);
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // mapping stays valid after channel close
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != size
+                    || checksum(buffer.slice(0, Integer.BYTES * (size + 2))) != checksum) {
+                throw new IllegalStateException("Invalid dataset file: " + file);
+            }
+            return new Records(buffer);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read dataset file: " + file, e);
+        }
+    }
+
+    private static long checksum(ByteBuffer header) {
+        final CRC32 crc = new CRC32();
+        crc.update(header);
+        return crc.getValue();
+    }
+
+    /**
+     * Records view over mapped file (absolute reads only, so it is safe for concurrent access).
+     */
+    private class Records extends AbstractList<T> implements RandomAccess {
+        private final ByteBuffer buffer;
+        private final int dataStart;
+
+        Records(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.dataStart = Integer.BYTES * (size + 2);
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+            }
+            final int start = dataStart + buffer.getInt(Integer.BYTES * (index + 2));
+            final int end = index == size - 1 ? buffer.limit()
+                    : dataStart + buffer.getInt(Integer.BYTES * (index + 3));
+            try {
+                return codec.read(new DataInputStream(new BufferInput(buffer.slice(start, end - start))));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read dataset record " + index + ": " + path, e);
+            }
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Input stream over buffer slice.
+     */
+    private static class BufferInput extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInput(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package ru.vyarus.gradle.plugin.sample7.file;
+
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.util.List;
+
+/**
+ * Service with a file-backed parameter: configuration cache entry contains only a dataset file reference.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public abstract class FileService implements BuildService<FileService.Params> {
+
+    public FileService() {
+        // dataset file is not loaded yet
+        System.out.println("Service created with state: " + getParameters().getValues().get());
+    }
+
+    /**
+     * @return dataset records (file loaded on the first call)
+     */
+    public List<String> getValues() {
+        return getParameters().getValues().get().values();
+    }
+
+    interface Params extends BuildServiceParameters {
+        Property<DatasetFile<String>> getValues();
+    }
+}
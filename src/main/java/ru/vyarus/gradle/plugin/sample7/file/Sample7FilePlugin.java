@@ -0,0 +1,45 @@
+package ru.vyarus.gradle.plugin.sample7.file;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.file.RegularFile;
+import org.gradle.api.provider.Provider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Same as {@link ru.vyarus.gradle.plugin.sample7.Sample7Plugin}, but collected state is stored in a file and
+ * service parameter contains only file reference. Second task does not use service: when cache entry is reused,
+ * state is not loaded at all.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class Sample7FilePlugin implements Plugin<Project> {
+
+    @Override
+    public void apply(Project project) {
+        final List<String> values = new ArrayList<>();
+        // file must survive clean: with reused cache entry, clean would remove it before service loading
+        final RegularFile file = project.getRootProject().getLayout().getProjectDirectory()
+                .file(".gradle/sample7/values.bin");
+
+        Provider<FileService> service = project.getGradle().getSharedServices().registerIfAbsent(
+                "sample7FileService", FileService.class, spec ->
+                        // file written after configuration (when cache entry stored or on service creation
+                        // without cache)
+                        spec.getParameters().getValues().set(project.provider(() ->
+                                DatasetFile.write(file.getAsFile(), values, StringCodec.INSTANCE))));
+
+        values.add("val1");
+        values.add("val2");
+
+        project.getTasks().register("sample7Task", task -> {
+            task.usesService(service);
+            task.doFirst(task1 -> System.out.println("Task see state: " + service.get().getValues()));
+        });
+        project.getTasks().register("sample7Other", task ->
+                task.doFirst(task1 -> System.out.println("Task does not use service")));
+    }
+}
@@ -0,0 +1,25 @@
+package ru.vyarus.gradle.plugin.sample7.file;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * String records codec.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public enum StringCodec implements DatasetCodec<String> {
+    INSTANCE;
+
+    @Override
+    public void write(DataOutput out, String value) throws IOException {
+        out.writeUTF(value);
+    }
+
+    @Override
+    public String read(DataInput in) throws IOException {
+        return in.readUTF();
+    }
+}
@@ -0,0 +1,82 @@
+package ru.vyarus.gradle.plugin.sample8;
+
+import ru.vyarus.gradle.plugin.journal.Outcome;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Task outcome counters for one task type (lock-free).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class OutcomeStats {
+
+    private final LongAdder[] counts = new LongAdder[Outcome.values().length];
+    private final LongAdder saved = new LongAdder();
+
+    public OutcomeStats() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param outcome task outcome
+     * @param saved   time (ms) saved comparing to the last execution (0 if unknown)
+     */
+    public void record(Outcome outcome, long saved) {
+        counts[outcome.ordinal()].increment();
+        this.saved.add(saved);
+    }
+
+    /**
+     * @param outcome task outcome
+     * @return tasks count with outcome
+     */
+    public long getCount(Outcome outcome) {
+        return counts[outcome.ordinal()].sum();
+    }
+
+    /**
+     * @return saved time (ms)
+     */
+    public long getSaved() {
+        return saved.sum();
+    }
+
+    /**
+     * @return percent of not executed tasks (from cache or up-to-date) among not skipped tasks
+     */
+    public double getHitRate() {
+        final long avoided = getCount(Outcome.FROM_CACHE) + getCount(Outcome.UP_TO_DATE);
+        final long total = avoided + getCount(Outcome.EXECUTED) + getCount(Outcome.FAILED);
+        return total == 0 ? 0 : avoided * 100.0 / total;
+    }
+
+    /**
+     * @return csv row (without type)
+     */
+    public String toCsv() {
+        final StringBuilder res = new StringBuilder();
+        for (Outcome outcome : Outcome.values()) {
+            res.append(getCount(outcome)).append(',');
+        }
+        return res.append(String.format(Locale.ROOT, "%.1f,%d", getHitRate(), getSaved())).toString();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder res = new StringBuilder();
+        for (Outcome outcome : Outcome.values()) {
+            final long count = getCount(outcome);
+            if (count > 0) {
+                res.append(count).append(' ').append(outcome.name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                        .append(", ");
+            }
+        }
+        return res.append(String.format(Locale.ROOT, "hit rate %.1f%%, saved %d ms", getHitRate(), getSaved()))
+                .toString();
+    }
+}
@@ -2,10 +2,13 @@ package ru.vyarus.gradle.plugin.sample8;
 
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
+import org.gradle.api.Task;
 import org.gradle.api.provider.Provider;
 import org.gradle.build.event.BuildEventsListenerRegistry;
 
 import javax.inject.Inject;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Shows that doFirst/doLast not called under build cache, but service is still notified.
@@ -21,13 +24,42 @@ public abstract class Sample8Plugin implements Plugin<Project> {
     @Override
     public void apply(Project project) {
         // service listen for tasks
-        final Provider<Service> service = project.getGradle().getSharedServices().registerIfAbsent(
-                "service", Service.class);
-        getEventsListenerRegistry().onTaskCompletion(service);
+        registerService(project, getEventsListenerRegistry());
 
         project.getTasks().register("sample8Task", Sample8Task.class, task -> {
             task.getOut().set(project.getLayout().getBuildDirectory().dir("sample8/out.txt").get().getAsFile());
             task.doLast(t -> System.out.println("doLast for sample8Task"));
         });
     }
+
+    /**
+     * Register outcomes listener service (if not registered).
+     *
+     * @param project   project
+     * @param listeners listeners registry
+     * @return service provider
+     */
+    public static Provider<Service> registerService(Project project, BuildEventsListenerRegistry listeners) {
+        final Provider<Service> service = project.getGradle().getSharedServices().registerIfAbsent(
+                "service", Service.class, spec -> {
+                    // listener receives only task path, so types of all scheduled tasks (in all projects)
+                    // must be resolved at configuration time
+                    final Map<String, String> types = new HashMap<>();
+                    project.getGradle().getTaskGraph().whenReady(graph ->
+                            graph.getAllTasks().forEach(task -> types.put(task.getPath(), typeName(task))));
+                    spec.getParameters().getTaskTypes().set(project.provider(() -> types));
+                    // history must survive clean
+                    spec.getParameters().getHistory().set(project.getRootProject().getLayout()
+                            .getProjectDirectory().file(".gradle/sample8/task-history.bin"));
+                    spec.getParameters().getReport().set(
+                            project.getLayout().getBuildDirectory().file("sample8/outcomes.csv"));
+                });
+        listeners.onTaskCompletion(service);
+        return service;
+    }
+
+    private static String typeName(Task task) {
+        // gradle generates task subclass
+        return task.getClass().getSimpleName().replace("_Decorated", "");
+    }
 }
@@ -25,8 +25,8 @@ public abstract class Sample8Task extends DefaultTask {
         System.out.println("Task executed");
         File out = getOut().get();
 
-        BufferedWriter writer = new BufferedWriter(new FileWriter(out));
-        writer.append("Sample file content");
-        writer.close();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(out))) {
+            writer.append("Sample file content");
+        }
     }
 }
@@ -1,19 +1,83 @@
 package ru.vyarus.gradle.plugin.sample8;
 
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.MapProperty;
 import org.gradle.api.services.BuildService;
 import org.gradle.api.services.BuildServiceParameters;
 import org.gradle.tooling.events.FinishEvent;
 import org.gradle.tooling.events.OperationCompletionListener;
+import org.gradle.tooling.events.task.TaskFinishEvent;
+import org.gradle.tooling.events.task.TaskOperationResult;
+import ru.vyarus.gradle.plugin.journal.Outcome;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
 
 /**
+ * Service counts task outcomes per task type and time saved by not executed (up-to-date and from-cache) tasks:
+ * task duration is compared with the duration of its last execution (from the previous builds history).
+ * Report is written on build finish.
+ *
  * @author Vyacheslav Rusakov
  * @since 10.08.2025
  */
-public abstract class Service implements BuildService<BuildServiceParameters.None>,
-        OperationCompletionListener {
+public abstract class Service implements BuildService<Service.Params>,
+        OperationCompletionListener, AutoCloseable {
+
+    static final String UNKNOWN_TYPE = "unknown";
+
+    private final Map<String, OutcomeStats> stats = new ConcurrentSkipListMap<>();
+    private final Map<String, String> taskTypes;
+    private final TaskHistory history;
+
+    public Service() {
+        taskTypes = getParameters().getTaskTypes().get();
+        history = TaskHistory.load(getParameters().getHistory().get().getAsFile());
+    }
 
     @Override
     public void onFinish(FinishEvent finishEvent) {
         System.out.println("Finish event: " + finishEvent.getDescriptor().getName());
+        if (finishEvent instanceof TaskFinishEvent) {
+            final String path = ((TaskFinishEvent) finishEvent).getDescriptor().getTaskPath();
+            final TaskOperationResult result = ((TaskFinishEvent) finishEvent).getResult();
+            final Outcome outcome = Outcome.of(result);
+            final long duration = result.getEndTime() - result.getStartTime();
+            long saved = 0;
+            if (outcome == Outcome.EXECUTED) {
+                history.record(path, duration);
+            } else if (outcome == Outcome.FROM_CACHE || outcome == Outcome.UP_TO_DATE) {
+                final Long executed = history.getDuration(path);
+                saved = executed == null ? 0 : Math.max(executed - duration, 0);
+            }
+            stats.computeIfAbsent(taskTypes.getOrDefault(path, UNKNOWN_TYPE), type -> new OutcomeStats())
+                    .record(outcome, saved);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        history.write(getParameters().getHistory().get().getAsFile());
+        final File report = getParameters().getReport().get().getAsFile();
+        Files.createDirectories(report.getParentFile().toPath());
+        Files.writeString(report.toPath(), "type,executed,from-cache,up-to-date,skipped,failed,hit rate %,saved ms\n"
+                + stats.entrySet().stream().map(entry -> entry.getKey() + ',' + entry.getValue().toCsv() + '\n')
+                .collect(Collectors.joining()), StandardCharsets.UTF_8);
+        stats.forEach((type, value) -> System.out.println("Outcomes " + type + ": " + value));
+    }
+
+    public interface Params extends BuildServiceParameters {
+        // task path -> task type
+        MapProperty<String, String> getTaskTypes();
+
+        // last execution durations
+        RegularFileProperty getHistory();
+
+        // outcomes report (csv)
+        RegularFileProperty getReport();
     }
 }
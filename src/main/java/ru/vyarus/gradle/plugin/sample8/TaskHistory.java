@@ -0,0 +1,94 @@
+package ru.vyarus.gradle.plugin.sample8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Duration of the last execution for each task (survives between builds). Used to estimate time, saved by
+ * up-to-date and from-cache tasks.
+ * <p>
+ * Format: magic, records count and records (task path and duration in ms).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public final class TaskHistory {
+
+    private static final int MAGIC = 0x53384854;
+
+    private final Map<String, Long> durations;
+
+    private TaskHistory(Map<String, Long> durations) {
+        this.durations = durations;
+    }
+
+    /**
+     * @param file history file
+     * @return loaded history or empty history if file not exists or invalid
+     */
+    public static TaskHistory load(File file) {
+        final Map<String, Long> res = new ConcurrentHashMap<>();
+        if (file.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    Files.newInputStream(file.toPath())))) {
+                if (in.readInt() == MAGIC) {
+                    final int count = in.readInt();
+                    for (int i = 0; i < count; i++) {
+                        res.put(in.readUTF(), in.readLong());
+                    }
+                }
+            } catch (IOException e) {
+                // corrupted history is ignored (would be overridden)
+                res.clear();
+            }
+        }
+        return new TaskHistory(res);
+    }
+
+    /**
+     * @param path task path
+     * @return duration (ms) of the last task execution or null if task was never executed
+     */
+    public Long getDuration(String path) {
+        return durations.get(path);
+    }
+
+    /**
+     * @param path     task path
+     * @param duration task execution duration (ms)
+     */
+    public void record(String path, long duration) {
+        durations.put(path, duration);
+    }
+
+    /**
+     * Write history, replacing the previous one.
+     *
+     * @param file history file
+     */
+    public void write(File file) {
+        try {
+            Files.createDirectories(file.getParentFile().toPath());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(file.toPath())))) {
+                // snapshot to write the correct count
+                final Map<String, Long> values = Map.copyOf(durations);
+                out.writeInt(MAGIC);
+                out.writeInt(values.size());
+                for (Map.Entry<String, Long> entry : values.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(entry.getValue());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write task history: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package ru.vyarus.gradle.plugin.sample8.cacheable;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Cacheable version of {@link ru.vyarus.gradle.plugin.sample8.Sample8Task}: generates file with numbered records
+ * (template line + record number).
+ * <p>
+ * All inputs are declared and file input is path-sensitive relative to the project (no absolute paths in cache key),
+ * so cache entries could be reused by other checkouts (relocatable). Output is streamed with {@link RecordsWriter}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+@CacheableTask
+public abstract class CacheableSample8Task extends DefaultTask {
+
+    // record template (line) file, could not be used together with line
+    @InputFile
+    @Optional
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract RegularFileProperty getTemplate();
+
+    // record line, used when template is not specified
+    @Input
+    @Optional
+    public abstract Property<String> getLine();
+
+    @Input
+    public abstract Property<Integer> getRecords();
+
+    @OutputFile
+    public abstract RegularFileProperty getOut();
+
+    @TaskAction
+    public void run() throws IOException {
+        if (getTemplate().isPresent() && getLine().isPresent()) {
+            throw new IllegalStateException("Either template or line must be specified, but not both");
+        }
+        System.out.println("Task executed");
+        final byte[] line = (getTemplate().isPresent()
+                ? Files.readString(getTemplate().get().getAsFile().toPath()).strip()
+                : getLine().get()).getBytes(StandardCharsets.UTF_8);
+        RecordsWriter.write(getOut().get().getAsFile().toPath(), line, getRecords().get(),
+                RecordsWriter.buffer(line.length));
+    }
+}
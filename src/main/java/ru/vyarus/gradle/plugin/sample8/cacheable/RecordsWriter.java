@@ -0,0 +1,88 @@
+package ru.vyarus.gradle.plugin.sample8.cacheable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes numbered records (line + record number) through a file channel with a direct buffer: records are encoded
+ * directly into the buffer, so large files are streamed without heap copies.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public final class RecordsWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // space, number (max 10 digits) and new line
+    private static final int MAX_SUFFIX = 12;
+
+    private RecordsWriter() {
+    }
+
+    /**
+     * Write records file, replacing existing file.
+     *
+     * @param out     output file
+     * @param line    record line
+     * @param records records count
+     * @param buffer  direct buffer (could be reused for multiple files), {@link #buffer(int)}
+     * @throws IOException on write error
+     */
+    public static void write(Path out, byte[] line, int records, ByteBuffer buffer) throws IOException {
+        if (!fits(buffer, line.length)) {
+            throw new IllegalArgumentException("Buffer is too small for line: " + line.length + " bytes");
+        }
+        buffer.clear();
+        try (FileChannel channel = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int i = 1; i <= records; i++) {
+                if (buffer.remaining() < line.length + MAX_SUFFIX) {
+                    flush(channel, buffer);
+                }
+                buffer.put(line).put((byte) ' ');
+                putNumber(buffer, i);
+                buffer.put((byte) '\n');
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    /**
+     * @param lineLength maximum record line length (bytes)
+     * @return direct buffer for records writing
+     */
+    public static ByteBuffer buffer(int lineLength) {
+        return ByteBuffer.allocateDirect(Math.max(BUFFER_SIZE, lineLength + MAX_SUFFIX));
+    }
+
+    /**
+     * @param buffer     buffer
+     * @param lineLength record line length (bytes)
+     * @return true if buffer could be used for records with this line
+     */
+    public static boolean fits(ByteBuffer buffer, int lineLength) {
+        return buffer.capacity() >= lineLength + MAX_SUFFIX;
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // ascii digits without string creation
+    private static void putNumber(ByteBuffer buffer, int value) {
+        int divider = 1;
+        while (value / divider >= 10) {
+            divider *= 10;
+        }
+        for (; divider > 0; divider /= 10) {
+            buffer.put((byte) ('0' + value / divider % 10));
+        }
+    }
+}
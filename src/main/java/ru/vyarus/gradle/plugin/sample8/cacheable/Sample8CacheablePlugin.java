@@ -0,0 +1,36 @@
+package ru.vyarus.gradle.plugin.sample8.cacheable;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.build.event.BuildEventsListenerRegistry;
+import ru.vyarus.gradle.plugin.sample8.Sample8Plugin;
+
+import javax.inject.Inject;
+
+/**
+ * Same as the original plugin, but task is cacheable and relocatable (build cache entry could be used by
+ * the project in a different directory).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public abstract class Sample8CacheablePlugin implements Plugin<Project> {
+
+    @Inject
+    public abstract BuildEventsListenerRegistry getEventsListenerRegistry();
+
+    @Override
+    public void apply(Project project) {
+        // the same outcomes listener as in the original sample
+        Sample8Plugin.registerService(project, getEventsListenerRegistry());
+
+        project.getTasks().register("sample8Task", CacheableSample8Task.class, task -> {
+            // default line only without template (line is not a part of cache key when template used)
+            task.getLine().convention(project.provider(() ->
+                    task.getTemplate().isPresent() ? null : "Sample file content"));
+            task.getRecords().convention(1);
+            task.getOut().convention(project.getLayout().getBuildDirectory().file("sample8/out.txt"));
+            task.doLast(t -> System.out.println("doLast for sample8Task"));
+        });
+    }
+}
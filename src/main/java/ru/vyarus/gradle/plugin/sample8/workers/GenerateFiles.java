@@ -0,0 +1,58 @@
+package ru.vyarus.gradle.plugin.sample8.workers;
+
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+import ru.vyarus.gradle.plugin.sample8.cacheable.RecordsWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Work unit: generates output files for a batch of templates (each file contains numbered template lines).
+ * Direct buffer is reused for all files in the batch.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public abstract class GenerateFiles implements WorkAction<GenerateFiles.Params> {
+
+    @Override
+    public void execute() {
+        final Path templates = getParameters().getTemplatesDir().get().getAsFile().toPath();
+        final Path out = getParameters().getOutDir().get().getAsFile().toPath();
+        final int records = getParameters().getRecords().get();
+        ByteBuffer buffer = null;
+        try {
+            for (String path : getParameters().getPaths().get()) {
+                final byte[] line = Files.readString(templates.resolve(path)).strip()
+                        .getBytes(StandardCharsets.UTF_8);
+                if (buffer == null || !RecordsWriter.fits(buffer, line.length)) {
+                    buffer = RecordsWriter.buffer(line.length);
+                }
+                final Path target = out.resolve(path);
+                Files.createDirectories(target.getParent());
+                RecordsWriter.write(target, line, records, buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to generate files", e);
+        }
+    }
+
+    public interface Params extends WorkParameters {
+        DirectoryProperty getTemplatesDir();
+
+        // template paths, relative to templates directory (output files use the same paths)
+        ListProperty<String> getPaths();
+
+        DirectoryProperty getOutDir();
+
+        Property<Integer> getRecords();
+    }
+}
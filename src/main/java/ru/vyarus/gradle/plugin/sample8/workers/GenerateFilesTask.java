@@ -0,0 +1,137 @@
+package ru.vyarus.gradle.plugin.sample8.workers;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.file.FileType;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputDirectory;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Generates output file (numbered template lines) for each template file in directory. Files are generated in
+ * parallel by work units (batches of templates), submitted to the worker api (parallelism is limited by
+ * {@code --max-workers}).
+ * <p>
+ * Task is incremental: only changed and added templates are generated, outputs of removed templates are deleted.
+ * Batch size and isolation mode don't affect outputs, so they are not task inputs (changing them does not make
+ * task out of date).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+@CacheableTask
+public abstract class GenerateFilesTask extends DefaultTask {
+
+    /**
+     * Work units isolation: "none" (task classloader, the fastest) or "classloader" (isolated classloader with
+     * work action classpath).
+     */
+    public static final String ISOLATION_NONE = "none";
+    public static final String ISOLATION_CLASSLOADER = "classloader";
+
+    @Incremental
+    @InputDirectory
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract DirectoryProperty getTemplates();
+
+    // records in each generated file
+    @Input
+    public abstract Property<Integer> getRecords();
+
+    @OutputDirectory
+    public abstract DirectoryProperty getOutDir();
+
+    // templates in one work unit
+    @Internal
+    public abstract Property<Integer> getBatchSize();
+
+    @Internal
+    public abstract Property<String> getIsolation();
+
+    @Inject
+    public abstract WorkerExecutor getWorkerExecutor();
+
+    @Inject
+    public abstract FileSystemOperations getFs();
+
+    @TaskAction
+    public void run(InputChanges changes) {
+        final int batch = getBatchSize().get();
+        if (batch < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batch);
+        }
+        final long start = System.nanoTime();
+        final File outDir = getOutDir().get().getAsFile();
+        if (!changes.isIncremental()) {
+            // outputs of the previous execution might be unknown (e.g. removed templates)
+            getFs().delete(spec -> spec.delete(outDir));
+            outDir.mkdirs();
+        }
+        final List<String> paths = new ArrayList<>();
+        int removed = 0;
+        for (FileChange change : changes.getFileChanges(getTemplates())) {
+            if (change.getFileType() == FileType.DIRECTORY) {
+                continue;
+            }
+            if (change.getChangeType() == ChangeType.REMOVED) {
+                new File(outDir, change.getNormalizedPath()).delete();
+                removed++;
+            } else {
+                paths.add(change.getNormalizedPath());
+            }
+        }
+
+        final WorkQueue queue = workQueue();
+        int units = 0;
+        for (int i = 0; i < paths.size(); i += batch) {
+            final List<String> unit = paths.subList(i, Math.min(i + batch, paths.size()));
+            queue.submit(GenerateFiles.class, params -> {
+                params.getTemplatesDir().set(getTemplates());
+                params.getPaths().set(new ArrayList<>(unit));
+                params.getOutDir().set(getOutDir());
+                params.getRecords().set(getRecords());
+            });
+            units++;
+        }
+        System.out.println("Generating " + paths.size() + " files in " + units + " work units ("
+                + getIsolation().get() + " isolation, " + (changes.isIncremental() ? "incremental" : "full")
+                + "), " + removed + " removed");
+        // not required (gradle waits for work units after task action), but task output would be more predictable
+        // (and generation time could be measured)
+        queue.await();
+        // fractional ms: small generations take less than 1 ms
+        System.out.println("Generated " + paths.size() + " files in "
+                + String.format(Locale.ROOT, "%.3f", (System.nanoTime() - start) / 1_000_000.0) + " ms");
+    }
+
+    private WorkQueue workQueue() {
+        final String isolation = getIsolation().get();
+        switch (isolation) {
+            case ISOLATION_NONE:
+                return getWorkerExecutor().noIsolation();
+            case ISOLATION_CLASSLOADER:
+                return getWorkerExecutor().classLoaderIsolation();
+            default:
+                throw new IllegalArgumentException("Unsupported isolation mode: " + isolation);
+        }
+    }
+}
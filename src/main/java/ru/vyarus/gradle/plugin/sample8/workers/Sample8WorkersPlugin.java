@@ -0,0 +1,34 @@
+package ru.vyarus.gradle.plugin.sample8.workers;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.build.event.BuildEventsListenerRegistry;
+import ru.vyarus.gradle.plugin.sample8.Sample8Plugin;
+
+import javax.inject.Inject;
+
+/**
+ * Multiple files generation with worker api: task action is split into work units, executed in parallel.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public abstract class Sample8WorkersPlugin implements Plugin<Project> {
+
+    @Inject
+    public abstract BuildEventsListenerRegistry getEventsListenerRegistry();
+
+    @Override
+    public void apply(Project project) {
+        // the same outcomes listener as in the original sample
+        Sample8Plugin.registerService(project, getEventsListenerRegistry());
+
+        project.getTasks().register("generateFiles", GenerateFilesTask.class, task -> {
+            task.getTemplates().convention(project.getLayout().getProjectDirectory().dir("src/templates"));
+            task.getRecords().convention(1000);
+            task.getOutDir().convention(project.getLayout().getBuildDirectory().dir("sample8/generated"));
+            task.getBatchSize().convention(100);
+            task.getIsolation().convention(GenerateFilesTask.ISOLATION_NONE);
+        });
+    }
+}
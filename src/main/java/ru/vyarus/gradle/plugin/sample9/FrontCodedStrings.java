@@ -0,0 +1,231 @@
+package ru.vyarus.gradle.plugin.sample9;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Immutable compact strings list (front coding). Values are stored in blocks of 16: each value is written as
+ * the length of the prefix, shared with the previous value (0 for the first value in block), suffix length
+ * (varints) and suffix UTF-8 bytes. Hierarchical names (project paths, module names), ordered by hierarchy, share
+ * long prefixes, so most of the value is not stored.
+ * <p>
+ * Values order is preserved (values are not sorted). Random access decodes at most one block; iterator decodes
+ * values sequentially. Only encoded bytes are serialized (block offsets are restored after reading).
+ * <p>
+ * Not a {@link List} itself because gradle does not allow {@code Property<List>} (and {@code ListProperty} would
+ * store each value separately): use {@link #asList()} view.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public final class FrontCodedStrings implements Iterable<String>, Externalizable {
+
+    private static final long serialVersionUID = 1;
+    private static final int BLOCK = 16;
+
+    private int size;
+    private byte[] data = new byte[0];
+    // offsets of the first value in each block
+    private int[] blocks = new int[0];
+
+    /**
+     * Required for deserialization. Use {@link #of(Collection)} instead.
+     */
+    public FrontCodedStrings() {
+    }
+
+    /**
+     * @param values values to store (null values are not allowed)
+     * @return compact list of values
+     */
+    public static FrontCodedStrings of(Collection<String> values) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] prev = new byte[0];
+        int count = 0;
+        for (String value : values) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int prefix = 0;
+            if (count % BLOCK != 0) {
+                final int max = Math.min(prev.length, bytes.length);
+                while (prefix < max && prev[prefix] == bytes[prefix]) {
+                    prefix++;
+                }
+            }
+            writeVarInt(out, prefix);
+            writeVarInt(out, bytes.length - prefix);
+            out.write(bytes, prefix, bytes.length - prefix);
+            prev = bytes;
+            count++;
+        }
+        final FrontCodedStrings res = new FrontCodedStrings();
+        res.size = count;
+        res.data = out.toByteArray();
+        res.index();
+        return res;
+    }
+
+    /**
+     * @param index value index
+     * @return value
+     */
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        final Decoder decoder = new Decoder(blocks[index / BLOCK]);
+        for (int i = index - index % BLOCK; i < index; i++) {
+            decoder.next();
+        }
+        return decoder.next();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return immutable list view
+     */
+    public List<String> asList() {
+        return new ListView();
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private final Decoder decoder = new Decoder(0);
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public String next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                index++;
+                return decoder.next();
+            }
+        };
+    }
+
+    /**
+     * @return encoded values size in bytes
+     */
+    public int getEncodedSize() {
+        return data.length;
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeInt(size);
+        // written as object because configuration cache does not support ObjectInput.readFully
+        out.writeObject(data);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        size = in.readInt();
+        data = (byte[]) in.readObject();
+        index();
+    }
+
+    private void index() {
+        blocks = new int[(size + BLOCK - 1) / BLOCK];
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+        for (int i = 0; i < size; i++) {
+            if (i % BLOCK == 0) {
+                blocks[i / BLOCK] = buffer.position();
+            }
+            readVarInt(buffer);
+            final int suffix = readVarInt(buffer);
+            buffer.position(buffer.position() + suffix);
+        }
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        int rest = value;
+        while ((rest & ~0x7F) != 0) {
+            out.write((rest & 0x7F) | 0x80);
+            rest >>>= 7;
+        }
+        out.write(rest);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int res = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer.get();
+            res |= (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return res;
+    }
+
+    /**
+     * List view (values decoded on access).
+     */
+    private class ListView extends AbstractList<String> implements RandomAccess {
+
+        @Override
+        public String get(int index) {
+            return FrontCodedStrings.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return FrontCodedStrings.this.iterator();
+        }
+    }
+
+    /**
+     * Sequential values decoder (previous value bytes are required to restore the next value).
+     */
+    private class Decoder {
+        private final ByteBuffer buffer;
+        private byte[] current = new byte[64];
+
+        Decoder(int offset) {
+            buffer = ByteBuffer.wrap(data);
+            buffer.position(offset);
+        }
+
+        String next() {
+            final int prefix = readVarInt(buffer);
+            final int suffix = readVarInt(buffer);
+            final int length = prefix + suffix;
+            if (length > current.length) {
+                current = Arrays.copyOf(current, Math.max(length, current.length * 2));
+            }
+            buffer.get(current, prefix, suffix);
+            return new String(current, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
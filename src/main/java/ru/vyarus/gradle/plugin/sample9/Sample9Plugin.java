@@ -4,9 +4,6 @@ import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.provider.Provider;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Plugin shows configuration time cache storage in service parameters for multi-module project and singleton
  * service.
@@ -16,19 +13,26 @@ import java.util.List;
  */
 public class Sample9Plugin implements Plugin<Project> {
 
-    // shared values (same instance for all plugins)
-    static List<String> sharedValues = new ArrayList<>();
+    // aggregated values limit
+    static final int MAX_VALUES = 100_000;
 
     @Override
     public void apply(Project project) {
 
-        // service will store shared values in parameters
+        // shared values (same instance for all plugins, but only during the current build)
+        final Provider<ValuesAggregator> aggregator = project.getGradle().getSharedServices().registerIfAbsent(
+                "sample9Values", ValuesAggregator.class, spec ->
+                        spec.getParameters().getMaxValues().set(MAX_VALUES));
+
+        // service will store shared values in parameters (provider called after configuration, when cache
+        // entry stored or on service creation without cache)
         final Provider<Service> service = project.getGradle().getSharedServices().registerIfAbsent(
                 "service", Service.class, spec ->
-                        spec.getParameters().getValues().set(sharedValues));
+                        spec.getParameters().getValues().set(project.provider(() ->
+                                FrontCodedStrings.of(aggregator.get().getValues()))));
 
         System.out.println("Value added: " + project.getName());
-        sharedValues.add(project.getName());
+        aggregator.get().add(project.getPath(), project.getName());
 
         project.getTasks().register("sample9Task", task -> {
             task.doLast(task1 ->
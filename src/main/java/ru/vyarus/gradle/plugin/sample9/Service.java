@@ -1,6 +1,6 @@
 package ru.vyarus.gradle.plugin.sample9;
 
-import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
 import org.gradle.api.services.BuildService;
 import org.gradle.api.services.BuildServiceParameters;
 
@@ -15,6 +15,7 @@ public abstract class Service implements BuildService<Service.Params> {
     }
 
     interface Params extends BuildServiceParameters {
-        ListProperty<String> getValues();
+        // compact list (values of all modules share prefixes and all of them are stored in configuration cache)
+        Property<FrontCodedStrings> getValues();
     }
 }
@@ -0,0 +1,77 @@
+package ru.vyarus.gradle.plugin.sample9;
+
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import ru.vyarus.gradle.plugin.sample3.AppendOnlyList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects values from all projects during configuration. Unlike static collection, service lives only during
+ * the build (no values from previous builds and no daemon memory leak) and is safe for parallel projects
+ * configuration.
+ * <p>
+ * Each project contributes into its own slot (lock-free append-only list). Slots are stored in a concurrent
+ * skip list, sorted by project path, so merged values order does not depend on projects configuration order.
+ * Total values count is limited: values above the limit are dropped (and reported on build finish).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public abstract class ValuesAggregator implements BuildService<ValuesAggregator.Params>, AutoCloseable {
+
+    private final Logger logger = Logging.getLogger(ValuesAggregator.class);
+
+    private final Map<String, List<String>> slots = new ConcurrentSkipListMap<>();
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+    private final int maxValues;
+
+    public ValuesAggregator() {
+        maxValues = getParameters().getMaxValues().getOrElse(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param projectPath contributing project path
+     * @param value       value
+     * @return true if value added, false if limit reached
+     */
+    public boolean add(String projectPath, String value) {
+        // reserve place first to never exceed limit under concurrent additions
+        if (count.incrementAndGet() > maxValues) {
+            count.decrementAndGet();
+            dropped.incrementAndGet();
+            return false;
+        }
+        slots.computeIfAbsent(projectPath, path -> new AppendOnlyList<>()).add(value);
+        return true;
+    }
+
+    /**
+     * @return values of all projects (ordered by project path; values of the same project in addition order)
+     */
+    public List<String> getValues() {
+        final List<String> res = new ArrayList<>(count.get());
+        slots.values().forEach(res::addAll);
+        return res;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (dropped.get() > 0) {
+            logger.warn("Aggregated values limit ({}) reached: {} values dropped", maxValues, dropped.get());
+        }
+    }
+
+    interface Params extends BuildServiceParameters {
+        // maximum values count (bounded memory for large multi-module projects)
+        Property<Integer> getMaxValues();
+    }
+}
@@ -0,0 +1,237 @@
+package ru.vyarus.gradle.plugin;
+
+import org.junit.jupiter.api.Tag;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+/**
+ * Base class for benchmarks. Benchmarks are not executed with tests, use {@code gradlew benchmark}.
+ * Results are printed into console and written as CSV files into {@code build/benchmark}.
+ * <p>
+ * Reports with key columns are also written as JSON and could be compared with baseline (previous results):
+ * {@code gradlew benchmark -Pbenchmark.baseline=path/to/previous/results -Pbenchmark.threshold=10}. Metric increase
+ * above the threshold (percent) is reported as regression (and fails benchmark with
+ * {@code -Pbenchmark.failOnRegression=true}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.11.2025
+ */
+@Tag("benchmark")
+public abstract class AbstractBenchmarkKitTest extends AbstractKitTest {
+
+    /**
+     * @param root project root directory
+     * @return configuration cache entries size (bytes) or 0 if cache not stored
+     */
+    public long configurationCacheSize(File root) {
+        return dirSize(new File(root, ".gradle/configuration-cache"));
+    }
+
+    public long dirSize(File dir) {
+        if (!dir.exists()) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(dir.toPath())) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to count directory size: " + dir, e);
+        }
+    }
+
+    /**
+     * Run action multiple times (after warmup runs) and collect execution times.
+     *
+     * @param warmup warmup runs count (not measured)
+     * @param runs   measured runs count
+     * @param action action to measure
+     * @return measured times
+     */
+    public Stats measure(int warmup, int runs, Callable<?> action) {
+        try {
+            for (int i = 0; i < warmup; i++) {
+                action.call();
+            }
+            final Stats res = new Stats();
+            for (int i = 0; i < runs; i++) {
+                final long start = System.nanoTime();
+                action.call();
+                res.add(System.nanoTime() - start);
+            }
+            return res;
+        } catch (Exception e) {
+            throw new IllegalStateException("Benchmark action failed", e);
+        }
+    }
+
+    /**
+     * Print results and write them into CSV file (build/benchmark/[name].csv).
+     *
+     * @param name   report name
+     * @param header CSV header
+     * @param rows   CSV rows
+     */
+    public void report(String name, String header, List<String> rows) {
+        final StringBuilder csv = new StringBuilder(header).append('\n');
+        rows.forEach(row -> csv.append(row).append('\n'));
+        System.out.println("\n------------------- " + name + " ----------------------------------------\n" + csv);
+
+        final File dir = new File(System.getProperty("benchmark.output", "build/benchmark"));
+        dir.mkdirs();
+        write(new File(dir, name + ".csv"), csv.toString());
+    }
+
+    /**
+     * Print results, write them into CSV and JSON files and compare with baseline (if configured). All non-key columns
+     * must be numeric metrics, where the larger value is worse (time, size). Columns with "stddev" in name are not
+     * compared (measurement noise, not a metric).
+     *
+     * @param name       report name
+     * @param header     CSV header
+     * @param rows       CSV rows
+     * @param keyColumns count of first columns, identifying row (used for baseline comparison)
+     */
+    public void report(String name, String header, List<String> rows, int keyColumns) {
+        report(name, header, rows);
+        final File dir = new File(System.getProperty("benchmark.output", "build/benchmark"));
+        final String[] columns = header.split(",");
+        final StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < rows.size(); i++) {
+            final String[] values = rows.get(i).split(",");
+            json.append("  {");
+            for (int j = 0; j < columns.length; j++) {
+                json.append(j > 0 ? ", " : "").append('"').append(columns[j]).append("\": ")
+                        .append(j < keyColumns ? '"' + values[j] + '"' : values[j]);
+            }
+            json.append(i < rows.size() - 1 ? "},\n" : "}\n");
+        }
+        write(new File(dir, name + ".json"), json.append("]\n").toString());
+
+        final String baseline = System.getProperty("benchmark.baseline");
+        if (baseline != null && !baseline.isEmpty()) {
+            compareWithBaseline(new File(baseline, name + ".csv"), columns, rows, keyColumns);
+        }
+    }
+
+    private void compareWithBaseline(File baseline, String[] columns, List<String> rows, int keyColumns) {
+        if (!baseline.exists()) {
+            System.out.println("No baseline found: " + baseline);
+            return;
+        }
+        final double threshold = Double.parseDouble(System.getProperty("benchmark.threshold", "10"));
+        final Map<String, String[]> previous = new HashMap<>();
+        try {
+            final List<String> lines = Files.readAllLines(baseline.toPath());
+            lines.subList(1, lines.size()).forEach(line -> {
+                final String[] values = line.split(",");
+                previous.put(key(values, keyColumns), values);
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read baseline: " + baseline, e);
+        }
+        final List<String> regressions = new ArrayList<>();
+        for (String row : rows) {
+            final String[] values = row.split(",");
+            final String[] prev = previous.get(key(values, keyColumns));
+            if (prev == null) {
+                continue;
+            }
+            for (int i = keyColumns; i < columns.length; i++) {
+                if (columns[i].contains("stddev")) {
+                    continue;
+                }
+                final double before = Double.parseDouble(prev[i]);
+                final double now = Double.parseDouble(values[i]);
+                if (before == 0) {
+                    // percent change is not defined: any growth from zero is a regression
+                    if (now > 0) {
+                        regressions.add(String.format(Locale.ROOT, "%s %s: %s -> %s (was zero)",
+                                key(values, keyColumns), columns[i], prev[i], values[i]));
+                    }
+                    continue;
+                }
+                // absolute value for metrics which could be negative (like overhead, comparing to other mode)
+                final double change = (now - before) * 100 / Math.abs(before);
+                if (change > threshold) {
+                    regressions.add(String.format(Locale.ROOT, "%s %s: %s -> %s (+%.1f%%)",
+                            key(values, keyColumns), columns[i], prev[i], values[i], change));
+                }
+            }
+        }
+        if (regressions.isEmpty()) {
+            System.out.println("No regressions comparing to baseline " + baseline);
+        } else {
+            System.out.println("REGRESSIONS comparing to baseline " + baseline + " (threshold " + threshold + "%):\n  "
+                    + String.join("\n  ", regressions));
+            if (Boolean.getBoolean("benchmark.failOnRegression")) {
+                throw new AssertionError(regressions.size() + " regressions found, comparing to " + baseline);
+            }
+        }
+    }
+
+    private static String key(String[] values, int keyColumns) {
+        return String.join(",", Arrays.copyOf(values, keyColumns));
+    }
+
+    /**
+     * Measured times (nanoseconds).
+     */
+    public static class Stats {
+        private final List<Long> values = new ArrayList<>();
+
+        public void add(long value) {
+            values.add(value);
+        }
+
+        public List<Long> getValues() {
+            return values;
+        }
+
+        public double mean() {
+            return values.stream().mapToLong(Long::longValue).average().orElse(0);
+        }
+
+        public double stdDev() {
+            final double mean = mean();
+            return Math.sqrt(values.stream().mapToDouble(it -> (it - mean) * (it - mean)).average().orElse(0));
+        }
+
+        public long median() {
+            final List<Long> sorted = values.stream().sorted().toList();
+            return sorted.isEmpty() ? 0 : sorted.get(sorted.size() / 2);
+        }
+
+        public long min() {
+            return values.stream().mapToLong(Long::longValue).min().orElse(0);
+        }
+
+        /**
+         * @return mean value in milliseconds
+         */
+        public double meanMs() {
+            return mean() / 1_000_000;
+        }
+
+        /**
+         * @return standard deviation in milliseconds
+         */
+        public double stdDevMs() {
+            return stdDev() / 1_000_000;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.2f ms +/- %.2f", meanMs(), stdDevMs());
+        }
+    }
+}
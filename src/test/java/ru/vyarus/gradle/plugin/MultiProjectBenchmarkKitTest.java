@@ -0,0 +1,128 @@
+package ru.vyarus.gradle.plugin;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.journal.JournalReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Measures how sample9 and sample10 plugins scale with the project count (synthetic builds generated with
+ * {@link MultiProjectFixture}). Plugins register services with the same name, so they could not be applied in
+ * the same build and measured separately. Build without plugins (the same projects and tasks) is measured as
+ * baseline: difference with baseline shows the cost of plugin state (sample9 shared values and sample10 task
+ * descriptors, stored in service parameters).
+ * <p>
+ * Each build is measured without configuration cache, with cache entry creation and with cache reuse.
+ * Recorded: total build time, time until the first task start (from build invocation in the test jvm to the first
+ * task start in the journal, so it includes TestKit and daemon connection overhead, not only configuration), used
+ * heap after projects configuration (not available on cache reuse) and configuration cache entry size.
+ * <p>
+ * Projects counts could be configured with {@code -Pbenchmark.projects=100,1000} (100, 1000 and 5000 by default),
+ * runs count with {@code -Pbenchmark.runs=5} (3 by default).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class MultiProjectBenchmarkKitTest extends AbstractBenchmarkKitTest {
+
+    private static final String[] MODES = {"configure", "store", "reuse"};
+    private static final int TASKS = 5;
+    private static final int FAN_OUT = 3;
+
+    @Test
+    void benchmarkProjectsScaling() throws IOException {
+        final int runs = Integer.getInteger("benchmark.runs", 3);
+        final int[] projects = Arrays.stream(System.getProperty("benchmark.projects", "100,1000,5000").split(","))
+                .mapToInt(it -> Integer.parseInt(it.trim())).toArray();
+        final List<String> rows = new ArrayList<>();
+        for (int count : projects) {
+            for (MultiProjectFixture fixture : List.of(
+                    new MultiProjectFixture(count)
+                            .withTasks(TASKS, "DefaultTask"),
+                    new MultiProjectFixture(count).withPlugin("ru.vyarus.sample9", "sample9Task")
+                            .withTasks(TASKS, "DefaultTask"),
+                    new MultiProjectFixture(count).withPlugin("ru.vyarus.sample10", "task1")
+                            .withTasks(TASKS, "ru.vyarus.gradle.plugin.sample10.TrackedTask"))) {
+                fixture.withFanOut(FAN_OUT);
+                for (String mode : MODES) {
+                    rows.add(run(fixture, mode, runs));
+                }
+            }
+        }
+        report("multi-project", "plugin,projects,mode,total ms,total stddev,until first task ms,"
+                + "until first task stddev,heap mb,entry bytes", rows, 3);
+    }
+
+    private String run(MultiProjectFixture fixture, String mode, int runs) throws IOException {
+        System.out.println("Measuring " + fixture + " (" + mode + ")");
+        final File root = file(fixture.toString().replaceAll("\\W+", "-") + mode);
+        root.mkdirs();
+        fixture.create(root);
+        final List<String> args = new ArrayList<>(List.of(fixture.getTask()));
+        if (!mode.equals("configure")) {
+            args.add("--configuration-cache");
+        }
+
+        final Stats total = new Stats();
+        final Stats untilFirstTask = new Stats();
+        final Stats heap = new Stats();
+        long entrySize = 0;
+        // first run is a warmup (and cache entry creation for reuse mode)
+        for (int i = 0; i <= runs; i++) {
+            if (mode.equals("store")) {
+                delete(new File(root, ".gradle/configuration-cache"));
+            }
+            final long invocation = System.currentTimeMillis();
+            final long start = System.nanoTime();
+            // output is not forwarded: it's too large for big projects
+            final BuildResult result = GradleRunner.create()
+                    .withProjectDir(root)
+                    .withArguments(args)
+                    .withPluginClasspath()
+                    .build();
+            final long time = System.nanoTime() - start;
+            if (i > 0) {
+                final long firstStart = new JournalReader(new File(root, "build/journal/tasks.journal"))
+                        .getRecords().stream().mapToLong(JournalReader.Record::getStartTime).min()
+                        .orElse(invocation);
+                total.add(time);
+                untilFirstTask.add((firstStart - invocation) * 1_000_000);
+                heap.add(heap(result.getOutput()));
+                entrySize = configurationCacheSize(root);
+            }
+        }
+        return String.format(Locale.ROOT, "%s,%d,%s,%.2f,%.2f,%.2f,%.2f,%.1f,%d",
+                fixture.getPlugin(), fixture.getProjects(), mode, total.meanMs(), total.stdDevMs(),
+                untilFirstTask.meanMs(), untilFirstTask.stdDevMs(), heap.mean() / 1024 / 1024, entrySize);
+    }
+
+    private long heap(String output) {
+        final int idx = output.indexOf(MultiProjectFixture.HEAP_MARKER);
+        if (idx < 0) {
+            return 0;
+        }
+        final int start = idx + MultiProjectFixture.HEAP_MARKER.length();
+        int end = start;
+        while (end < output.length() && Character.isDigit(output.charAt(end))) {
+            end++;
+        }
+        return Long.parseLong(output.substring(start, end));
+    }
+
+    private void delete(File dir) {
+        if (dir.isDirectory()) {
+            final File[] files = dir.listFiles();
+            if (files != null) {
+                Arrays.stream(files).forEach(this::delete);
+            }
+        }
+        dir.delete();
+    }
+}
@@ -0,0 +1,155 @@
+package ru.vyarus.gradle.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Synthetic multi-project build generator for scaling tests. Generates root project with configured amount of
+ * subprojects (p0, p1, ...), applying plugin (through {@code subprojects} block) with additional tasks in each
+ * project. Target task depends on all additional tasks in the project and on target tasks of previous projects
+ * (dependency fan-out). Without plugin, target task is registered by the fixture itself (baseline build).
+ * <p>
+ * Task events journal applied to the root project (to measure time until the first task start). Used heap (after gc) is printed
+ * after projects configuration as "Configuration heap: [bytes]" (not printed when configuration cache reused).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class MultiProjectFixture {
+
+    public static final String HEAP_MARKER = "Configuration heap: ";
+
+    private final int projects;
+    private String plugin;
+    private String task = "task1";
+    private int tasks;
+    private String taskType = "DefaultTask";
+    private int fanOut;
+    private String jvmArgs = "-Xmx2g";
+
+    public MultiProjectFixture(int projects) {
+        this.projects = projects;
+    }
+
+    /**
+     * @param plugin plugin id to apply in all subprojects
+     * @param task   target task, registered by plugin
+     * @return fixture instance for chained calls
+     */
+    public MultiProjectFixture withPlugin(String plugin, String task) {
+        this.plugin = plugin;
+        this.task = task;
+        return this;
+    }
+
+    /**
+     * @param count additional tasks count in each project
+     * @param type  additional tasks type (fully qualified class name, if not a default gradle import)
+     * @return fixture instance for chained calls
+     */
+    public MultiProjectFixture withTasks(int count, String type) {
+        this.tasks = count;
+        this.taskType = type;
+        return this;
+    }
+
+    /**
+     * @param fanOut count of previous projects target tasks, target task depends on
+     * @return fixture instance for chained calls
+     */
+    public MultiProjectFixture withFanOut(int fanOut) {
+        this.fanOut = fanOut;
+        return this;
+    }
+
+    /**
+     * @param jvmArgs gradle daemon jvm arguments (2g heap by default)
+     * @return fixture instance for chained calls
+     */
+    public MultiProjectFixture withJvmArgs(String jvmArgs) {
+        this.jvmArgs = jvmArgs;
+        return this;
+    }
+
+    /**
+     * @return applied plugin id or "none"
+     */
+    public String getPlugin() {
+        return plugin != null ? plugin : "none";
+    }
+
+    public int getProjects() {
+        return projects;
+    }
+
+    public String getTask() {
+        return task;
+    }
+
+    /**
+     * Generate build in directory (directory must not exist or be empty).
+     *
+     * @param root project root
+     */
+    public void create(File root) {
+        final StringBuilder settings = new StringBuilder("rootProject.name='fixture'\n");
+        for (int i = 0; i < projects; i++) {
+            settings.append("include 'p").append(i).append("'\n");
+            new File(root, "p" + i).mkdirs();
+        }
+        write(new File(root, "settings.gradle"), settings.toString());
+        write(new File(root, "gradle.properties"), "org.gradle.jvmargs=" + jvmArgs + "\n");
+
+        final StringBuilder project = new StringBuilder();
+        if (plugin != null) {
+            project.append("    apply plugin: '").append(plugin).append("'\n");
+        } else {
+            project.append("    tasks.register('").append(task).append("')\n");
+        }
+        // groovy range (1..0) is not empty
+        if (tasks > 0) {
+            project.append("    (1..").append(tasks).append(").each { tasks.register(\"extra$it\", ")
+                    .append(taskType).append(") }\n");
+        }
+        project.append("    def idx = name.substring(1) as int\n")
+                .append("    tasks.named('").append(task).append("') {\n");
+        if (tasks > 0) {
+            project.append("        dependsOn((1..").append(tasks).append(").collect { \"extra$it\" })\n");
+        }
+        if (fanOut > 0) {
+            project.append("        (1..").append(fanOut).append(").each { if (idx >= it) dependsOn(\":p${idx - it}:")
+                    .append(task).append("\") }\n");
+        }
+        project.append("    }\n");
+
+        write(new File(root, "build.gradle"), """
+                plugins {
+                    id 'ru.vyarus.journal'
+                    %s
+                }
+
+                gradle.projectsEvaluated {
+                    System.gc()
+                    println "%s${Runtime.runtime.totalMemory() - Runtime.runtime.freeMemory()}"
+                }
+
+                subprojects {
+                %s}
+                """.formatted(plugin != null ? "id '" + plugin + "' apply false" : "", HEAP_MARKER, project));
+    }
+
+    @Override
+    public String toString() {
+        return getPlugin() + ": " + projects + " projects, " + tasks + " tasks, "
+                + fanOut + " fan-out";
+    }
+
+    private void write(File file, String content) {
+        try {
+            Files.writeString(file.toPath(), content);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write file: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package ru.vyarus.gradle.plugin;
+
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.journal.JournalReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Runs all sample plugins (and fixed failure samples) in different modes:
+ * <ul>
+ *     <li>cold - first build in a fresh project directory (TestKit daemon is shared, so it's not a cold jvm)</li>
+ *     <li>warm - repeated build without the configuration cache</li>
+ *     <li>store - build with configuration cache entry creation (entry removed before each run)</li>
+ *     <li>reuse - build with configuration cache entry reuse</li>
+ * </ul>
+ * Each run records total build time, time until the first task start (from build invocation in the test jvm, so it
+ * includes TestKit and daemon connection overhead, not only configuration), execution time (from the first task
+ * start to the last task end) and configuration cache entry size. Task times are taken from the task events journal
+ * (journal plugin applied to each build).
+ * <p>
+ * Runs count could be configured with {@code -Pbenchmark.runs=10} (5 by default). Results are written as CSV and
+ * JSON (build/benchmark/samples.*) and could be compared with baseline (see {@link AbstractBenchmarkKitTest}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public class SamplesBenchmarkKitTest extends AbstractBenchmarkKitTest {
+
+    private static final String[] MODES = {"cold", "warm", "store", "reuse"};
+
+    @Test
+    void benchmarkSamples() throws Exception {
+        final int runs = Integer.getInteger("benchmark.runs", 5);
+        final List<String> rows = new ArrayList<>();
+        for (Case sample : cases()) {
+            for (String mode : MODES) {
+                rows.add(run(sample, mode, runs));
+            }
+        }
+        report("samples", "plugin,mode,total ms,total stddev,until first task ms,until first task stddev,"
+                + "execution ms,execution stddev,entry bytes", rows, 2);
+    }
+
+    private List<Case> cases() {
+        final List<Case> res = new ArrayList<>();
+        res.add(new Case("sample1", "sample1 { message = 'Configured!' }", "sample1Task"));
+        res.add(new Case("sample2", "sample2 { message = 'Configured!' }", "task1", "task2"));
+        res.add(new Case("sample3", "sample3 { message = 'Configured!' }", "task1", "task2"));
+        res.add(new Case("sample3.singleton", "sample3 { message = 'Configured!' }", "task1", "task2"));
+        res.add(new Case("sample4", "", "task1", "-PstartTime=1"));
+        res.add(new Case("sample4.value", "", "task1", "-Dfoo=1"));
+        res.add(new Case("sample5", "", "sample5Task"));
+        res.add(new Case("sample6", "", "sample6Task"));
+        res.add(new Case("sample7", "", "sample7Task"));
+        res.add(new Case("sample8", "", "sample8Task"));
+        // plugin applied to subprojects
+        res.add(new Case("sample9", "subprojects { apply plugin: 'ru.vyarus.sample9' }", "sample9Task")
+                .withPlugin("id 'ru.vyarus.sample9' apply false")
+                .withSubprojects("sub1", "sub2"));
+        res.add(new Case("sample10", "", "task1", "task2"));
+        res.add(new Case("fail1fix", "", "fail1Fix", "fail1Fix2"));
+        res.add(new Case("fail2fix", "", "fail2Fix", "fail2Fix2"));
+        res.add(new Case("fail3fix", "fail3 { message = 'Configured!' }", "fail3Task"));
+        res.add(new Case("fail4fix", "", "fail4Fix"));
+        return res;
+    }
+
+    private String run(Case sample, String mode, int runs) throws IOException {
+        final File root = file(sample.name + "-" + mode);
+        final boolean cache = mode.equals("store") || mode.equals("reuse");
+        final List<String> args = new ArrayList<>(List.of(sample.args));
+        if (cache) {
+            args.add("--configuration-cache");
+        }
+        final String[] cmd = args.toArray(new String[0]);
+
+        final Stats total = new Stats();
+        final Stats untilFirstTask = new Stats();
+        final Stats execution = new Stats();
+        long entrySize = 0;
+        // first run is a warmup (not measured) for all modes except cold
+        for (int i = mode.equals("cold") ? 1 : 0; i <= runs; i++) {
+            if (i == 0 || mode.equals("cold")) {
+                sample.create(root);
+            }
+            if (mode.equals("store")) {
+                delete(new File(root, ".gradle/configuration-cache"));
+            }
+            final long invocation = System.currentTimeMillis();
+            final long start = System.nanoTime();
+            gradle(root, cmd).build();
+            final long time = System.nanoTime() - start;
+            if (i > 0) {
+                final List<JournalReader.Record> records =
+                        new JournalReader(new File(root, "build/journal/tasks.journal")).getRecords();
+                final long firstStart = records.stream().mapToLong(JournalReader.Record::getStartTime).min()
+                        .orElse(invocation);
+                final long lastEnd = records.stream().mapToLong(JournalReader.Record::getEndTime).max()
+                        .orElse(firstStart);
+                total.add(time);
+                untilFirstTask.add((firstStart - invocation) * 1_000_000);
+                execution.add((lastEnd - firstStart) * 1_000_000);
+                entrySize = configurationCacheSize(root);
+            }
+        }
+        return String.format(Locale.ROOT, "%s,%s,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f,%d", sample.name, mode,
+                total.meanMs(), total.stdDevMs(), untilFirstTask.meanMs(), untilFirstTask.stdDevMs(),
+                execution.meanMs(), execution.stdDevMs(), entrySize);
+    }
+
+    private void delete(File dir) throws IOException {
+        if (dir.exists()) {
+            try (Stream<Path> files = Files.walk(dir.toPath())) {
+                for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Benchmarked sample build.
+     */
+    private class Case {
+        private final String name;
+        private final String script;
+        private final String[] args;
+        private String plugin;
+        private String[] subprojects = new String[0];
+
+        Case(String name, String script, String... args) {
+            this.name = name;
+            this.script = script;
+            this.args = args;
+            this.plugin = "id 'ru.vyarus." + name + "'";
+        }
+
+        Case withPlugin(String plugin) {
+            this.plugin = plugin;
+            return this;
+        }
+
+        Case withSubprojects(String... subprojects) {
+            this.subprojects = subprojects;
+            return this;
+        }
+
+        void create(File root) throws IOException {
+            delete(root);
+            root.mkdirs();
+            final StringBuilder settings = new StringBuilder("rootProject.name='bench'\n");
+            for (String sub : subprojects) {
+                settings.append("include '").append(sub).append("'\n");
+                new File(root, sub).mkdirs();
+            }
+            write(new File(root, "settings.gradle"), settings.toString());
+            write(new File(root, "build.gradle"), """
+                    plugins {
+                        id 'java'
+                        id 'ru.vyarus.journal'
+                        %s
+                    }
+
+                    %s
+                    """.formatted(plugin, script));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package ru.vyarus.gradle.plugin.journal;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractKitTest;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.11.2025
+ */
+public class JournalPluginKitTest extends AbstractKitTest {
+
+    @Test
+    void testConfigurationCache() throws Exception {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'ru.vyarus.journal'
+                }
+                
+                tasks.register('gen') {
+                    def out = file('build/gen.txt')
+                    outputs.file(out)
+                    doLast { out.text = 'generated' }
+                }
+                tasks.register('skip') {
+                    onlyIf { false }
+                    doLast {}
+                }
+                """);
+
+        // WHEN run without cache
+        BuildResult result = run("gen", "skip", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN journal written
+        Assertions.assertThat(result.getOutput()).contains("Configuration cache entry stored.");
+        Map<String, Outcome> outcomes = readJournal();
+        Assertions.assertThat(outcomes).isEqualTo(Map.of(":gen", Outcome.EXECUTED, ":skip", Outcome.SKIPPED));
+
+        // WHEN run with populated cache
+        System.out.println("\n\n------------------- FROM CACHE ----------------------------------------");
+        result = run("gen", "skip", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN journal re-created for the current build
+        Assertions.assertThat(result.getOutput()).contains("Reusing configuration cache.");
+        outcomes = readJournal();
+        Assertions.assertThat(outcomes).isEqualTo(Map.of(":gen", Outcome.UP_TO_DATE, ":skip", Outcome.SKIPPED));
+    }
+
+    private Map<String, Outcome> readJournal() throws Exception {
+        final JournalReader reader = new JournalReader(file("build/journal/tasks.journal"));
+        Assertions.assertThat(reader.getDropped()).isEqualTo(0L);
+        reader.forEach(record -> Assertions.assertThat(record.getEndTime())
+                .isGreaterThanOrEqualTo(record.getStartTime()));
+        return reader.getRecords().stream()
+                .collect(Collectors.toMap(JournalReader.Record::getPath, JournalReader.Record::getOutcome));
+    }
+}
@@ -0,0 +1,55 @@
+package ru.vyarus.gradle.plugin.journal;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Journal of not closed service (killed daemon) must be readable: records are found by record marker (header
+ * count is written only on close) and paths table is written in advance.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class JournalServiceTest {
+
+    @TempDir
+    File dir;
+
+    @Test
+    void testNotClosedJournal() throws Exception {
+
+        // SETUP
+        final File file = new File(dir, "tasks.journal");
+        final JournalService.Params params = ProjectBuilder.builder().build().getObjects()
+                .newInstance(JournalService.Params.class);
+        params.getFile().set(file);
+        params.getCapacity().set(10);
+        params.getPaths().set(List.of(":a", ":b"));
+        final JournalService journal = new JournalService() {
+            @Override
+            public Params getParameters() {
+                return params;
+            }
+        };
+
+        // WHEN records written without service close
+        journal.record(journal.pathId(":b"), Outcome.EXECUTED, 1, 2);
+        journal.record(journal.pathId(":a"), Outcome.UP_TO_DATE, 3, 3);
+        // path, not known in advance
+        journal.record(journal.pathId(":c"), Outcome.SKIPPED, 4, 4);
+
+        // THEN all records visible
+        final List<JournalReader.Record> records = new JournalReader(file).getRecords();
+        Assertions.assertThat(records).hasSize(3);
+        Assertions.assertThat(records.get(0).getPath()).isEqualTo(":b");
+        Assertions.assertThat(records.get(0).getOutcome()).isSameAs(Outcome.EXECUTED);
+        Assertions.assertThat(records.get(1).getPath()).isEqualTo(":a");
+        Assertions.assertThat(records.get(2).getPath()).isEqualTo(":c");
+        journal.close();
+    }
+}
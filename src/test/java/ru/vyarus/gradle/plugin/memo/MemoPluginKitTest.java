@@ -0,0 +1,58 @@
+package ru.vyarus.gradle.plugin.memo;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractKitTest;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public class MemoPluginKitTest extends AbstractKitTest {
+
+    @Test
+    void testMemoization() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'ru.vyarus.memo'
+                }
+                
+                gradle.sharedServices.registrations.named('memo') { parameters.maxSize = 2 }
+                // returns already registered service
+                def memo = gradle.sharedServices.registerIfAbsent('memo', ru.vyarus.gradle.plugin.memo.MemoService) {}
+                
+                ['a', 'b', 'a', 'c', 'b'].eachWithIndex { key, i ->
+                    def name = "task${i + 1}"
+                    tasks.register(name) {
+                        usesService memo
+                        if (i > 0) mustRunAfter "task$i"
+                        doLast {
+                            println "$name value: " + memo.get().get(key) { println "computed $key"; key.toUpperCase() }
+                        }
+                    }
+                }
+                """);
+
+        // WHEN run tasks, requesting the same keys
+        BuildResult result = run("task1", "task2", "task3", "task4", "task5", "--configuration-cache");
+
+        // THEN value computed once, until evicted (LRU)
+        String out = result.getOutput();
+        Assertions.assertThat(out).contains("""
+                        > Task :task3
+                        task3 value: A
+                        """,
+                "Memo cache: 1 hits, 4 misses, 2 evictions");
+
+        // WHEN run from cache
+        result = run("task1", "task2", "task3", "task4", "task5", "--configuration-cache");
+
+        // THEN cache is build-scoped (values computed again)
+        out = result.getOutput();
+        Assertions.assertThat(out).contains("Reusing configuration cache.", "computed a",
+                "Memo cache: 1 hits, 4 misses, 2 evictions");
+    }
+}
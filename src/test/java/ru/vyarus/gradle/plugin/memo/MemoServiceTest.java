@@ -0,0 +1,121 @@
+package ru.vyarus.gradle.plugin.memo;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * {@link MemoService#get(Object, Supplier)} under contention: all threads request the same key at the same time,
+ * loader must be called only once and all threads must receive its result (or its exception).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class MemoServiceTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    void testSingleFlightLoading() throws Exception {
+
+        // SETUP
+        final MemoService service = createService();
+        final AtomicInteger calls = new AtomicInteger();
+
+        // WHEN all threads request the same key (loader waits until all other threads wait for the result)
+        final List<Object> results = runConcurrently(() -> service.get("key", () -> {
+            calls.incrementAndGet();
+            awaitHits(service);
+            return "value";
+        }));
+
+        // THEN value computed once
+        Assertions.assertThat(calls.get()).isEqualTo(1);
+        Assertions.assertThat(results).hasSize(THREADS).containsOnly("value");
+        Assertions.assertThat(service.getMisses()).isEqualTo(1);
+        Assertions.assertThat(service.getHits()).isEqualTo(THREADS - 1);
+    }
+
+    @Test
+    void testFailurePropagation() throws Exception {
+
+        // SETUP
+        final MemoService service = createService();
+        final AtomicInteger calls = new AtomicInteger();
+        final Error error = new StackOverflowError("loader failed");
+
+        // WHEN loader fails while other threads wait for the result
+        final List<Object> results = runConcurrently(() -> {
+            try {
+                return service.get("key", () -> {
+                    calls.incrementAndGet();
+                    awaitHits(service);
+                    throw error;
+                });
+            } catch (Error e) {
+                return e;
+            }
+        });
+
+        // THEN all threads receive the original error (not CompletionException)
+        Assertions.assertThat(calls.get()).isEqualTo(1);
+        Assertions.assertThat(results).hasSize(THREADS).containsOnly(error);
+
+        // AND failure not cached
+        Assertions.assertThat(service.<String>get("key", () -> "value")).isEqualTo("value");
+        Assertions.assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private MemoService createService() {
+        final MemoService.Params params = ProjectBuilder.builder().build().getObjects()
+                .newInstance(MemoService.Params.class);
+        return new MemoService() {
+            @Override
+            public Params getParameters() {
+                return params;
+            }
+        };
+    }
+
+    private List<Object> runConcurrently(Supplier<Object> action) throws Exception {
+        final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<Object>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    return action.get();
+                }));
+            }
+            final List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                results.add(future.get(1, TimeUnit.MINUTES));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // hit is counted before waiting for the result, so all other threads are waiting after this
+    private void awaitHits(MemoService service) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (service.getHits() < THREADS - 1) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Not all threads requested value: " + service.getHits() + " hits");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package ru.vyarus.gradle.plugin.pin;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractBenchmarkKitTest;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Measures the cost of task completion listeners, registered only to keep services alive (empty {@code onFinish}),
+ * comparing to {@link PinnedServices}. Build contains many trivial tasks (10000 by default, could be changed with
+ * {@code -Pbenchmark.tasks=1000}) and a few services, created at configuration time. Execution is measured with
+ * the configuration cache reuse, so the difference is only events delivery.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class PinnedServicesBenchmarkKitTest extends AbstractBenchmarkKitTest {
+
+    private static final String[] MODES = {"none", "pinned", "listener"};
+    private static final int SERVICES = 3;
+
+    @Test
+    void benchmarkListenerOverhead() {
+        final int runs = Integer.getInteger("benchmark.runs", 3);
+        final int tasks = Integer.getInteger("benchmark.tasks", 10_000);
+        final List<String> rows = new ArrayList<>();
+        double pinned = 0;
+        for (String mode : MODES) {
+            final Stats stats = run(mode, tasks, runs);
+            if (mode.equals("pinned")) {
+                pinned = stats.meanMs();
+            }
+            final double overhead = mode.equals("listener") ? stats.meanMs() - pinned : 0;
+            rows.add(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.2f,%.2f,%.2f", mode, tasks, SERVICES,
+                    stats.meanMs(), stats.stdDevMs(), overhead, overhead * 1000 / tasks));
+        }
+        report("pinned-services", "mode,tasks,services,build ms,build stddev,overhead ms,per task us", rows, 3);
+    }
+
+    private Stats run(String mode, int tasks, int runs) {
+        final File root = file(mode + tasks);
+        root.mkdirs();
+        write(new File(root, "settings.gradle"), "rootProject.name='bench'");
+        write(new File(root, "build.gradle"), """
+                plugins {
+                    id 'ru.vyarus.sample6' apply false
+                }
+
+                abstract class StateService implements BuildService<org.gradle.api.services.BuildServiceParameters.None>,
+                        AutoCloseable {
+                    StateService() { println "State service created" }
+                    void close() {}
+                }
+
+                abstract class ListenerService extends StateService
+                        implements org.gradle.tooling.events.OperationCompletionListener {
+                    int events
+                    void onFinish(org.gradle.tooling.events.FinishEvent event) { events++ }
+                    void close() { println "Listener events: $events" }
+                }
+
+                abstract class Registry {
+                    @javax.inject.Inject
+                    abstract org.gradle.build.event.BuildEventsListenerRegistry getListeners()
+                }
+
+                def listeners = objects.newInstance(Registry).listeners
+                def services = (1..%d).collect { i ->
+                    def service = gradle.sharedServices.registerIfAbsent("state$i",
+                            '%s' == 'listener' ? ListenerService : StateService)
+                    switch ('%2$s') {
+                        case 'pinned': ru.vyarus.gradle.plugin.pin.PinnedServices.pin(service); break
+                        case 'listener': listeners.onTaskCompletion(service); break
+                    }
+                    service.get()
+                    service
+                }
+
+                def names = (1..%d).collect { "t$it".toString() }
+                names.each { tasks.register(it) { doLast {} } }
+                tasks.register('all') { dependsOn names }
+                """.formatted(SERVICES, mode, tasks));
+
+        // warmup (and cache entry creation)
+        gradle(root, "all", "--configuration-cache", "-q").build();
+        return measure(1, runs, () -> {
+            final BuildResult result = gradle(root, "all", "--configuration-cache").build();
+            if (!result.getOutput().contains("Reusing configuration cache.")) {
+                throw new IllegalStateException("Configuration cache not reused");
+            }
+            return null;
+        });
+    }
+}
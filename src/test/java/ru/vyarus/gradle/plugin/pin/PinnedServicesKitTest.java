@@ -0,0 +1,124 @@
+package ru.vyarus.gradle.plugin.pin;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractKitTest;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class PinnedServicesKitTest extends AbstractKitTest {
+
+    // pinning relies on internal api: check the oldest supported (wrapper) version and the current one
+    private static final String MIN_GRADLE = "8.13";
+
+    @Test
+    void testPinnedService() {
+
+        // SETUP
+        buildPinnedServices();
+
+        // WHEN run with configuration cache
+        BuildResult result = run("task1", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN pinned service instance survived configuration
+        assertPinned(result.getOutput());
+
+        // WHEN run from cache
+        System.out.println("\n\n------------------- FROM CACHE ----------------------------------------");
+        result = run("task1", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN configuration not executed: both services created at execution without configuration state
+        Assertions.assertThat(result.getOutput()).contains(
+                "Reusing configuration cache.",
+                "Pinned state: []",
+                "Plain state: []");
+    }
+
+    @Test
+    void testPinnedServiceOnMinGradle() {
+
+        // SETUP
+        buildPinnedServices();
+
+        // WHEN run with configuration cache on the oldest supported gradle
+        BuildResult result = runVer(MIN_GRADLE, "task1", "--configuration-cache",
+                "--configuration-cache-problems=warn");
+
+        // THEN pinned service instance survived configuration
+        assertPinned(result.getOutput());
+    }
+
+    @Test
+    void testNotRegisteredService() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample6' apply false
+                }
+                
+                abstract class StateService implements BuildService<org.gradle.api.services.BuildServiceParameters.None> {
+                }
+                
+                def service = gradle.sharedServices.registerIfAbsent('service', StateService)
+                ru.vyarus.gradle.plugin.pin.PinnedServices.pin(service.map { it })
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+
+        // WHEN pin mapped provider
+        BuildResult result = runFailed("help");
+
+        // THEN error
+        Assertions.assertThat(result.getOutput()).contains("Not a registered build service provider");
+    }
+
+    private void buildPinnedServices() {
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample6' apply false
+                }
+                
+                abstract class StateService implements BuildService<org.gradle.api.services.BuildServiceParameters.None>,
+                        AutoCloseable {
+                    List<String> state = []
+                    StateService() { println "State service created" }
+                    void close() { println "State service closed" }
+                }
+                
+                def pinned = gradle.sharedServices.registerIfAbsent('pinned', StateService)
+                ru.vyarus.gradle.plugin.pin.PinnedServices.pin(pinned)
+                def plain = gradle.sharedServices.registerIfAbsent('plain', StateService)
+                pinned.get().state.add('configuration')
+                plain.get().state.add('configuration')
+                
+                tasks.register('task1') {
+                    usesService(pinned)
+                    usesService(plain)
+                    doLast {
+                        println "Pinned state: ${pinned.get().state}"
+                        println "Plain state: ${plain.get().state}"
+                    }
+                }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+    }
+
+    private void assertPinned(String out) {
+        Assertions.assertThat(out).contains(
+                "Pinned state: [configuration]",
+                "Plain state: []");
+    }
+}
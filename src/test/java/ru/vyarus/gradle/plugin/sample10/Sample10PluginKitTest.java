@@ -5,6 +5,10 @@ import org.gradle.testkit.runner.BuildResult;
 import org.junit.jupiter.api.Test;
 import ru.vyarus.gradle.plugin.AbstractKitTest;
 
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author Vyacheslav Rusakov
  * @since 19.11.2025
@@ -12,7 +16,7 @@ import ru.vyarus.gradle.plugin.AbstractKitTest;
 public class Sample10PluginKitTest extends AbstractKitTest {
 
     @Test
-    void testConfigurationCache() {
+    void testConfigurationCache() throws Exception {
 
         // SETUP
         build("""
@@ -36,7 +40,7 @@ public class Sample10PluginKitTest extends AbstractKitTest {
                 "Calculating task graph as no cached configuration is available for tasks:",
                 "Configuration cache entry stored.");
         Assertions.assertThat(out).contains(
-                "Service configured: []",
+                "Service configured",
                 "Store task descriptor: task1",
                 "Store task descriptor: task2",
                 "Service created with state: [task1, task2]",
@@ -59,5 +63,106 @@ public class Sample10PluginKitTest extends AbstractKitTest {
                 "Task :task1 listened, but ignored",
                 "Task task2 doLast",
                 "Task :task2 listened, but ignored");
+
+        // THEN durations report written on service close
+        Assertions.assertThat(file("build/sample10/durations.json")).exists();
+        Assertions.assertThat(Files.readString(file("build/sample10/durations.json").toPath())).contains(
+                "\"byType\":{\"TrackedTask\":{\"count\":2,",
+                "\"byProject\":{\":\":{");
+
+        // THEN critical path report written on service close
+        Assertions.assertThat(Files.readString(file("build/sample10/critical-path.txt").toPath())).contains(
+                "Critical path: ",
+                "Parallelism: average ",
+                ":task1",
+                ":task2");
+    }
+
+    @Test
+    void testMultiModuleProject() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'ru.vyarus.sample10'
+                }
+                
+                subprojects {
+                    apply plugin: 'ru.vyarus.sample10'
+                }
+                """);
+        write(file("settings.gradle"), "include ':sub1', ':sub2'");
+        // gradle would warn otherwise
+        file("sub1").mkdirs();
+        file("sub2").mkdirs();
+
+        // WHEN run without cache
+        BuildResult result = run("task1", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN tasks of all projects tracked
+        assertAllProjectsTracked(result.getOutput());
+
+        // WHEN run with populated cache
+        System.out.println("\n\n------------------- FROM CACHE ----------------------------------------");
+        result = run("task1", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN tasks of all projects tracked
+        Assertions.assertThat(result.getOutput()).contains("Reusing configuration cache.");
+        assertAllProjectsTracked(result.getOutput());
+
+        // WHEN run without configuration cache
+        result = run("task1");
+
+        // THEN tasks of all projects tracked
+        assertAllProjectsTracked(result.getOutput());
+    }
+
+    @Test
+    void testParallelClaim() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'ru.vyarus.sample10'
+                }
+                
+                def stress = (1..2000).collect { tasks.register("stress$it", ru.vyarus.gradle.plugin.sample10.TrackedTask) }
+                tasks.register('stress') { dependsOn stress }
+                """);
+
+        // WHEN run without cache (tasks of the same project run in parallel when configuration cache enabled)
+        BuildResult result = run("stress", "--configuration-cache", "--configuration-cache-problems=warn",
+                "--max-workers=16");
+
+        // THEN each task processed exactly once
+        assertClaimedOnce(result.getOutput(), 2000);
+
+        // WHEN run with populated cache
+        System.out.println("\n\n------------------- FROM CACHE ----------------------------------------");
+        result = run("stress", "--configuration-cache", "--configuration-cache-problems=warn", "--max-workers=16");
+
+        // THEN each task processed exactly once
+        Assertions.assertThat(result.getOutput()).contains("Reusing configuration cache.");
+        assertClaimedOnce(result.getOutput(), 2000);
+    }
+
+    private void assertAllProjectsTracked(String out) {
+        Assertions.assertThat(out).contains(
+                "Service created with state: [task1, task2, task1, task2, task1, task2]",
+                "Task :task1 listened, but ignored",
+                "Task :sub1:task1 listened, but ignored",
+                "Task :sub2:task1 listened, but ignored");
+        // each task claimed by doLast
+        Assertions.assertThat(out.lines().filter(line -> line.equals("Task task1 doLast")).count()).isEqualTo(3L);
+    }
+
+    private void assertClaimedOnce(String out, int count) {
+        final Map<String, Integer> calls = new HashMap<>();
+        out.lines()
+                .filter(line -> line.endsWith(" doLast") || line.endsWith(" listened by service"))
+                .forEach(line -> calls.merge(line, 1, Integer::sum));
+        Assertions.assertThat(calls).hasSize(count);
+        Assertions.assertThat(calls.values().stream().filter(it -> it != 1).count()).isEqualTo(0L);
+        Assertions.assertThat(out).doesNotContain("listened by service");
     }
 }
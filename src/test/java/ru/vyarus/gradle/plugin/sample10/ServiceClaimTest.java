@@ -0,0 +1,77 @@
+package ru.vyarus.gradle.plugin.sample10;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * {@link Service#claim(TaskDesc)} under contention: all threads claim the same task at the same time (and tasks
+ * share bitset words), only one claimer must win.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class ServiceClaimTest {
+
+    private static final int TASKS = 1000;
+    private static final int THREADS = 8;
+
+    @Test
+    void testConcurrentClaim() throws Exception {
+
+        // SETUP
+        final List<TaskDesc> descs = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            descs.add(new TaskDesc(i, "task" + i, ":task" + i, "TrackedTask"));
+        }
+        final Service.Params params = ProjectBuilder.builder().build().getObjects().newInstance(Service.Params.class);
+        params.getValues().set(descs);
+        final Service service = new Service() {
+            @Override
+            public Params getParameters() {
+                return params;
+            }
+        };
+
+        // WHEN all threads claim each task simultaneously
+        final AtomicIntegerArray winners = new AtomicIntegerArray(TASKS);
+        final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < TASKS; i++) {
+                        final TaskDesc desc = service.getTask(":task" + i);
+                        barrier.await(10, TimeUnit.SECONDS);
+                        if (service.claim(desc)) {
+                            winners.incrementAndGet(i);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // THEN exactly one winner for each task
+        for (int i = 0; i < TASKS; i++) {
+            Assertions.assertThat(winners.get(i)).as("task%s winners", i).isEqualTo(1);
+        }
+        // AND claimed task could not be claimed again
+        Assertions.assertThat(service.claim(descs.get(0))).isFalse();
+    }
+}
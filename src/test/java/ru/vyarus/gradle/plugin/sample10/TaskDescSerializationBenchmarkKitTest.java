@@ -0,0 +1,110 @@
+package ru.vyarus.gradle.plugin.sample10;
+
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractBenchmarkKitTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares compact {@link TaskDesc} serialization with the default java serialization of the same fields and
+ * measures configuration cache entry size and reuse time for many tracked tasks.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.11.2025
+ */
+public class TaskDescSerializationBenchmarkKitTest extends AbstractBenchmarkKitTest {
+
+    private static final int[] SIZES = {1_000, 10_000, 50_000};
+
+    @Test
+    void benchmarkSerialization() throws Exception {
+        final List<String> rows = new ArrayList<>();
+        for (int size : SIZES) {
+            final List<TaskDesc> compact = new ArrayList<>();
+            final List<PlainDesc> plain = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                // 100 tasks per project, each task depends on the previous task in the same project
+                final String project = ":module" + (i / 100);
+                final TaskDesc desc = new TaskDesc(i, "task" + i, project + ":task" + i, "TrackedTask");
+                if (i % 100 > 0) {
+                    desc.getDependencies().add(project + ":task" + (i - 1));
+                }
+                compact.add(desc);
+                plain.add(new PlainDesc(desc));
+            }
+
+            final byte[] compactBytes = serialize(compact);
+            final byte[] plainBytes = serialize(plain);
+            final Stats compactLoad = measure(3, 10, () -> deserialize(compactBytes));
+            final Stats plainLoad = measure(3, 10, () -> deserialize(plainBytes));
+
+            rows.add(String.format(Locale.ROOT, "%d,%d,%d,%.2f,%.2f", size, plainBytes.length, compactBytes.length,
+                    plainLoad.meanMs(), compactLoad.meanMs()));
+        }
+        report("taskdesc-serialization", "tasks,default bytes,compact bytes,default load ms,compact load ms", rows);
+    }
+
+    @Test
+    void benchmarkConfigurationCache() {
+        final List<String> rows = new ArrayList<>();
+        for (int size : SIZES) {
+            final File root = file("tasks" + size);
+            root.mkdirs();
+            write(new File(root, "settings.gradle"), "rootProject.name='bench'");
+            write(new File(root, "build.gradle"), String.format("""
+                    plugins {
+                        id 'ru.vyarus.sample10'
+                    }
+
+                    def all = (1..%d).collect { tasks.register("tracked$it", ru.vyarus.gradle.plugin.sample10.TrackedTask) }
+                    tasks.register('all') { dependsOn all }
+                    """, size));
+
+            final Stats store = measure(0, 1, () -> gradle(root, "all", "--configuration-cache", "-q").build());
+            final long entrySize = configurationCacheSize(root);
+            final Stats reuse = measure(1, 3, () -> gradle(root, "all", "--configuration-cache", "-q").build());
+
+            rows.add(String.format(Locale.ROOT, "%d,%d,%.2f,%.2f", size, entrySize, store.meanMs(), reuse.meanMs()));
+        }
+        report("taskdesc-configuration-cache", "tasks,entry bytes,store ms,reuse ms", rows);
+    }
+
+    private byte[] serialize(Object value) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Object deserialize(byte[] bytes) throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
+    // default serialization form of the same fields (as it was before compact encoding)
+    static class PlainDesc implements Serializable {
+        private final int ordinal;
+        private final String name;
+        private final String path;
+        private final String type;
+        private final List<String> dependencies;
+
+        PlainDesc(TaskDesc desc) {
+            this.ordinal = desc.getOrdinal();
+            this.name = desc.getName();
+            this.path = desc.getPath();
+            this.type = desc.getType();
+            this.dependencies = new ArrayList<>(desc.getDependencies());
+        }
+    }
+}
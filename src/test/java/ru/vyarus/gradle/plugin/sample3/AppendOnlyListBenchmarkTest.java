@@ -0,0 +1,78 @@
+package ru.vyarus.gradle.plugin.sample3;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractBenchmarkKitTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Compares concurrent appends throughput of {@link AppendOnlyList}, {@link CopyOnWriteArrayList} and
+ * {@link Collections#synchronizedList(List)} (JMH is not used to avoid additional build dependencies).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.11.2025
+ */
+public class AppendOnlyListBenchmarkTest extends AbstractBenchmarkKitTest {
+
+    private static final int[] THREADS = {1, 4, 16, 64};
+    // total appends per run (small enough for CopyOnWriteArrayList)
+    private static final int APPENDS = 20_000;
+
+    @Test
+    void benchmarkAppends() {
+        final List<String> rows = new ArrayList<>();
+        for (int threads : THREADS) {
+            rows.add(run("AppendOnlyList", threads, AppendOnlyList::new));
+            rows.add(run("CopyOnWriteArrayList", threads, CopyOnWriteArrayList::new));
+            rows.add(run("synchronizedList", threads, () -> Collections.synchronizedList(new ArrayList<>())));
+        }
+        report("append-only-list", "list,threads,appends,mean ms,stddev ms,appends per ms", rows);
+    }
+
+    private String run(String name, int threads, Supplier<List<String>> factory) {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final Stats stats = measure(3, 10, () -> {
+                final List<String> list = factory.get();
+                appendConcurrently(executor, threads, list);
+                Assertions.assertThat(list.size()).isEqualTo(APPENDS);
+                return null;
+            });
+            return String.format(Locale.ROOT, "%s,%d,%d,%.3f,%.3f,%.0f", name, threads, APPENDS,
+                    stats.meanMs(), stats.stdDevMs(), APPENDS / stats.meanMs());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void appendConcurrently(ExecutorService executor, int threads, List<String> list) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        final int perThread = APPENDS / threads;
+        for (int i = 0; i < threads; i++) {
+            final int count = i == threads - 1 ? APPENDS - perThread * (threads - 1) : perThread;
+            final String value = "Task " + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < count; j++) {
+                    list.add(value);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
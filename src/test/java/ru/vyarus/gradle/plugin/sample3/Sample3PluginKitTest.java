@@ -59,4 +59,55 @@ public class Sample3PluginKitTest extends AbstractKitTest {
                 "Reusing configuration cache.");
         Assertions.assertThat(out).contains("[Task 1]", "[Task 1, Task 2]");
     }
+
+    @Test
+    void testPersistentState() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample3'
+                }
+                
+                sample3 {
+                    message = "Configured!"
+                    persistState = true
+                }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+
+        // WHEN run with cache enabled
+        BuildResult result = run("task1", "task2", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN field value restored in the execution-time service instance
+        String out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Configuration cache entry stored.",
+                "Shared service state restored:",
+                "[Task 1], param: Configured!, field: Configured!",
+                "[Task 1, Task 2], param: Configured!, field: Configured!");
+        // snapshot of the last service instance remains
+        Assertions.assertThat(file("build/sample3/service.snapshot")).exists();
+
+        // WHEN run from cache
+        result = run("task1", "task2", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN cache reused (remaining snapshot does not invalidate it) and previous build state is not restored
+        out = result.getOutput();
+        Assertions.assertThat(out).contains("Reusing configuration cache.", "[Task 1, Task 2], param: Configured!, field: null");
+        Assertions.assertThat(out).doesNotContain("Shared service state restored:");
+
+        // WHEN run without cache
+        result = run("task1", "task2");
+
+        // THEN the same instance used (nothing to restore) and previous build snapshot ignored
+        out = result.getOutput();
+        Assertions.assertThat(out).contains("[Task 1, Task 2], param: Configured!, field: Configured!");
+        Assertions.assertThat(out).doesNotContain("Shared service state restored:");
+    }
 }
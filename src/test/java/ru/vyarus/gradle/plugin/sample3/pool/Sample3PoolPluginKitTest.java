@@ -0,0 +1,57 @@
+package ru.vyarus.gradle.plugin.sample3.pool;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractKitTest;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public class Sample3PoolPluginKitTest extends AbstractKitTest {
+
+    @Test
+    void testPool() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample3.pool'
+                }
+                
+                sample3 {
+                    poolSize = 2
+                }
+                
+                (3..6).each { tasks.register("task$it", ru.vyarus.gradle.plugin.sample3.pool.PooledTask) }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+
+        // WHEN run tasks in parallel (more workers than handles)
+        BuildResult result = run("task1", "task2", "task3", "task4", "task5", "task6",
+                "--configuration-cache", "--configuration-cache-problems=warn", "--max-workers=4");
+
+        // THEN not more handles created than pool size
+        String out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "[run] task1 used handle",
+                "[run] task6 used handle",
+                "Pool closed: 6 leases, ");
+        Assertions.assertThat(out).doesNotContain("handle 3");
+
+        // WHEN run from cache
+        result = run("task1", "task2", "task3", "task4", "task5", "task6",
+                "--configuration-cache", "--configuration-cache-problems=warn", "--max-workers=4");
+
+        // THEN works the same
+        out = result.getOutput();
+        Assertions.assertThat(out).contains("Reusing configuration cache.", "Pool closed: 6 leases, ");
+        Assertions.assertThat(out).doesNotContain("handle 3");
+    }
+}
@@ -59,4 +59,86 @@ public class Sample3SingletonPluginKitTest extends AbstractKitTest {
                 "Reusing configuration cache.");
         Assertions.assertThat(out).contains("[Task 1]", "[Task 1, Task 2]");
     }
+
+    @Test
+    void testEventsFilter() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample3.singleton'
+                }
+                
+                sample3 {
+                    message = "Configured!"
+                    onlyServiceUsers = true
+                    renderLimit = 1
+                }
+                
+                tasks.register('task3') {
+                    mustRunAfter 'task2'
+                    doLast {}
+                }
+                
+                // user task declaring service usage
+                tasks.register('task4') {
+                    mustRunAfter 'task3'
+                    usesService(gradle.sharedServices.registrations.getByName('service').service)
+                    doLast {}
+                }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+
+        // WHEN run with tasks not using service
+        BuildResult result = run("task1", "task2", "task3", "task4",
+                "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN only service users events processed and list rendering truncated
+        String out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Finish event: :task1 caught on service",
+                "Finish event: :task2 caught on service",
+                "Finish event: :task4 caught on service",
+                "[Task 1, ... (1 more)], param: Configured!");
+        Assertions.assertThat(out).doesNotContain("Finish event: :task3", "Task 2]");
+
+        // WHEN run without configuration cache (service created at configuration time)
+        result = run("task1", "task2", "task3", "task4");
+
+        // THEN same events processed
+        out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Finish event: :task1 caught on service",
+                "Finish event: :task2 caught on service",
+                "Finish event: :task4 caught on service");
+        Assertions.assertThat(out).doesNotContain("Finish event: :task3");
+
+        // WHEN filter by task path
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample3.singleton'
+                }
+                
+                sample3 {
+                    taskFilter = ".*task2"
+                }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+        result = run("task1", "task2", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN only matched task event processed
+        out = result.getOutput();
+        Assertions.assertThat(out).contains("Finish event: :task2 caught on service");
+        Assertions.assertThat(out).doesNotContain("Finish event: :task1");
+    }
 }
@@ -0,0 +1,89 @@
+package ru.vyarus.gradle.plugin.sample3.staged;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractKitTest;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class Sample3StagedPluginKitTest extends AbstractKitTest {
+
+    @Test
+    void testStagedWrites() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample3.staged'
+                }
+                
+                sample3 {
+                    message = "Configured!"
+                }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+
+        // WHEN run with configuration cache
+        BuildResult result = run("task1", "task2", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN service created once (at execution) with staged writes applied
+        String out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Staged assigning: Configured!",
+                "[run] Task 2 shared object: ",
+                "@[Configuration :, Task 1, Task 2], param: Configured!, field: Configured!");
+        Assertions.assertThat(out.indexOf("Staged service created"))
+                .isEqualTo(out.lastIndexOf("Staged service created"));
+        Assertions.assertThat(out).doesNotContain("wasted");
+
+        // WHEN run from cache
+        result = run("task1", "task2", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN staged writes restored from cached parameters
+        out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Reusing configuration cache.",
+                "@[Configuration :, Task 1, Task 2], param: Configured!, field: Configured!");
+        Assertions.assertThat(out).doesNotContain("wasted");
+    }
+
+    @Test
+    void testWastedCreation() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample3.staged'
+                }
+                
+                sample3 {
+                    message = "Configured!"
+                    staged = false
+                }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+
+        // WHEN run with direct service access at configuration time
+        BuildResult result = run("task1", "task2", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN configuration-time instance reported
+        String out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Direct assigning: Configured!",
+                "@[Task 1, Task 2], param: Configured!, field: null",
+                "Service 'stagedService' was created 2 times in this build (1 wasted)");
+    }
+}
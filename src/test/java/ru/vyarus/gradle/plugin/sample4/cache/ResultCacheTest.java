@@ -0,0 +1,83 @@
+package ru.vyarus.gradle.plugin.sample4.cache;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Two {@link ResultCache} instances on the same directory in one JVM (like two builds in one daemon): concurrent
+ * index modifications must not fail with overlapping file lock.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class ResultCacheTest {
+
+    private static final int THREADS = 8;
+    private static final int KEYS = 200;
+
+    @TempDir
+    File dir;
+
+    @Test
+    void testTwoInstancesInOneJvm() throws Exception {
+
+        // SETUP
+        final Project project = ProjectBuilder.builder().build();
+        final ResultCache first = cache(project);
+        final ResultCache second = cache(project);
+
+        // WHEN both instances compute and read the same keys concurrently
+        final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final ResultCache cache = t % 2 == 0 ? first : second;
+                futures.add(executor.submit(() -> {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    for (int i = 0; i < KEYS; i++) {
+                        final String value = "value" + i;
+                        Assertions.assertThat(cache.get(ResultCache.fingerprint("key", String.valueOf(i)),
+                                () -> value)).isEqualTo(value);
+                    }
+                    return null;
+                }));
+            }
+            // THEN no lock errors
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // AND values visible for both instances
+        Assertions.assertThat(first.get(ResultCache.fingerprint("key", "0"), () -> "computed")).isEqualTo("value0");
+        Assertions.assertThat(second.get(ResultCache.fingerprint("key", "1"), () -> "computed")).isEqualTo("value1");
+        first.close();
+        second.close();
+    }
+
+    private ResultCache cache(Project project) {
+        final ResultCache.Params params = project.getObjects().newInstance(ResultCache.Params.class);
+        params.getDirectory().set(dir);
+        return new ResultCache() {
+            @Override
+            public Params getParameters() {
+                return params;
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package ru.vyarus.gradle.plugin.sample4.cache;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractKitTest;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public class Sample4CachePluginKitTest extends AbstractKitTest {
+
+    @Test
+    void testPersistentCache() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample4.cache'
+                }
+                
+                gradle.sharedServices.registrations.named('resultCache') { parameters.maxEntries = 2 }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+
+        // WHEN cold run
+        BuildResult result = run("task1", "-PstartTime=1", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN values computed
+        String out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "called computeMessage('static')",
+                "called computeMessage('provider 1')",
+                "Result cache: 0 hits, 2 misses, 0 evictions");
+        Assertions.assertThat(file(".gradle/sample4-cache/index")).exists();
+
+        // WHEN warm run
+        System.out.println("\n\n------------------- FROM CACHE ----------------------------------------");
+        result = run("task1", "-PstartTime=1", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN computations skipped
+        out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Reusing configuration cache.",
+                "Task exec / provider value: Computed message: provider 1",
+                "Result cache: 2 hits, 0 misses, 0 evictions");
+        Assertions.assertThat(out).doesNotContain("called computeMessage");
+
+        // WHEN input changed
+        System.out.println("\n\n------------------- INPUT CHANGED ----------------------------------------");
+        result = run("task1", "-PstartTime=2", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN only changed value computed and the least recently used value evicted (max 2 entries)
+        out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "called computeMessage('provider 2')",
+                "Result cache: 1 hits, 1 misses, 1 evictions");
+        Assertions.assertThat(out).doesNotContain("called computeMessage('static')");
+    }
+}
@@ -0,0 +1,69 @@
+package ru.vyarus.gradle.plugin.sample4.value;
+
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractBenchmarkKitTest;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares configuration cache entry size and reuse time for many system properties, read at configuration time with separate
+ * value sources (gradle system property providers and custom sources) and with one batched value source.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public class BatchedValuesBenchmarkKitTest extends AbstractBenchmarkKitTest {
+
+    private static final int[] SIZES = {10, 200};
+
+    @Test
+    void benchmarkCacheReuse() {
+        final List<String> rows = new ArrayList<>();
+        for (int size : SIZES) {
+            rows.add(run("systemProperty", size, "(0..<%d).each { providers.systemProperty(\"p$it\").get() }"));
+            rows.add(run("separate", size, """
+                    (0..<%d).each { i ->
+                        providers.of(ru.vyarus.gradle.plugin.sample4.value.BatchedValues) {
+                            parameters.systemProperties.add("p$i")
+                        }.get()
+                    }"""));
+            rows.add(run("batched", size, """
+                    providers.of(ru.vyarus.gradle.plugin.sample4.value.BatchedValues) {
+                        parameters.systemProperties.addAll((0..<%d).collect { "p$it" })
+                    }.get()"""));
+        }
+        report("batched-values", "sources,keys,entry bytes,reuse ms,stddev ms", rows);
+    }
+
+    private String run(String name, int size, String read) {
+        final File root = file(name + size);
+        root.mkdirs();
+        write(new File(root, "settings.gradle"), "rootProject.name='bench'");
+        write(new File(root, "build.gradle"), """
+                plugins {
+                    id 'ru.vyarus.sample4.value.batch'
+                }
+
+                // values read at configuration time (configuration cache inputs)
+                %s
+
+                tasks.register('noop')
+                """.formatted(read.formatted(size)));
+
+        final List<String> args = new ArrayList<>(List.of("noop", "--configuration-cache", "-q"));
+        for (int i = 0; i < size; i++) {
+            args.add("-Dp" + i + "=value" + i);
+        }
+        final String[] cmd = args.toArray(new String[0]);
+        // store cache entry
+        gradle(root, cmd).build();
+        final long entrySize = configurationCacheSize(root);
+        // value sources are obtained again on reuse to check configuration cache fingerprint
+        final Stats reuse = measure(1, 5, () -> gradle(root, cmd).build());
+        return String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.2f", name, size, entrySize, reuse.meanMs(),
+                reuse.stdDevMs());
+    }
+}
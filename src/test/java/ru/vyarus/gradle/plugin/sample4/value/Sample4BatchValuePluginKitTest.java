@@ -0,0 +1,81 @@
+package ru.vyarus.gradle.plugin.sample4.value;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractKitTest;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 20.11.2025
+ */
+public class Sample4BatchValuePluginKitTest extends AbstractKitTest {
+
+    @Test
+    void testConfigurationCache() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample4.value.batch'
+                }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+
+        // WHEN run only task using one value
+        BuildResult result = run("task1", "-Dfoo=1", "-Dbar=2", "--configuration-cache", "--configuration-cache-problems=warn", "--info");
+
+        // THEN all values obtained at once (at configuration time), but only used value computed
+        String out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Configuration cache entry stored.",
+                "Configuration / foo value: 1",
+                "called computeMessage('foo 1')");
+        Assertions.assertThat(out).doesNotContain("called computeMessage('bar");
+        // configuration-time value re-used at execution
+        assertObtainedOnce(out);
+
+        // WHEN run with populated cache and not batched value
+        System.out.println("\n\n------------------- FROM CACHE ----------------------------------------");
+        result = run("task1", "-Dfoo=1", "-Dbar=2", "-Dother=5", "--configuration-cache", "--configuration-cache-problems=warn", "--info");
+        out = result.getOutput();
+
+        // THEN cache reused: source obtained once to check fingerprint and its value used at execution
+        Assertions.assertThat(out).contains(
+                "Reusing configuration cache.",
+                "Task exec / foo value: Computed message: foo 1");
+        Assertions.assertThat(out).doesNotContain("Configuration / foo value:");
+        assertObtainedOnce(out);
+
+        // WHEN batched value changed
+        result = run("task1", "-Dfoo=3", "-Dbar=2", "--configuration-cache", "--configuration-cache-problems=warn", "--info");
+        out = result.getOutput();
+
+        // THEN cache invalidated
+        Assertions.assertThat(out).contains(
+                "configuration cache cannot be reused because a build logic input of type 'BatchedValues' has changed",
+                "Configuration / foo value: 3",
+                "Task exec / foo value: Computed message: foo 3");
+
+        // WHEN both values used (new cache entry)
+        result = run("task1", "task2", "-Dfoo=3", "-Dbar=2", "--configuration-cache", "--configuration-cache-problems=warn", "--info");
+        out = result.getOutput();
+
+        // THEN values obtained once per build
+        Assertions.assertThat(out).contains(
+                "Task exec / foo value: Computed message: foo 3",
+                "Task exec / bar value: Computed message: bar 2");
+        assertObtainedOnce(out);
+    }
+
+    // source logs obtained values count with info level
+    private void assertObtainedOnce(String out) {
+        Assertions.assertThat(out).contains("BatchedValues: 2 values");
+        Assertions.assertThat(out.indexOf("BatchedValues:")).isEqualTo(out.lastIndexOf("BatchedValues:"));
+    }
+}
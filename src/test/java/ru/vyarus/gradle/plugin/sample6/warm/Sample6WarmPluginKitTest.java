@@ -0,0 +1,126 @@
+package ru.vyarus.gradle.plugin.sample6.warm;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractKitTest;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class Sample6WarmPluginKitTest extends AbstractKitTest {
+
+    @Test
+    void testWarmUp() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample6.warm'
+                }
+                
+                sample6 {
+                    initTime = 200
+                    workTime = 1000
+                }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+
+        // WHEN run tasks
+        BuildResult result = run("task1", "task2", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN services initialized in background (dependency first)
+        String out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Service warm1 created in thread service-warm-up-",
+                "Service warm3 created in thread service-warm-up-",
+                "Service warm2 created in thread service-warm-up-",
+                "task1 got service warm2",
+                "task2 got service warm3",
+                "Services warm-up: warm1 ");
+        Assertions.assertThat(out.indexOf("Service warm1 created")).isLessThan(out.indexOf("Service warm2 created"));
+
+        // WHEN run from cache
+        result = run("task1", "task2", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN warm-up works the same
+        out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Reusing configuration cache.",
+                "Service warm3 created in thread service-warm-up-",
+                "Services warm-up: warm1 ");
+    }
+
+    @Test
+    void testNoWarmUp() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample6.warm'
+                }
+                
+                sample6 {
+                    warmUp = false
+                    initTime = 200
+                    workTime = 100
+                }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+
+        // WHEN run tasks
+        BuildResult result = run("task1", "task2", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN services initialized on first usage
+        String out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Service warm2 created in thread",
+                "Service warm3 created in thread",
+                "task2 got service warm3");
+        Assertions.assertThat(out).doesNotContain("service-warm-up-", "Services warm-up:");
+    }
+
+    @Test
+    void testWarmUpFailure() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample6.warm'
+                }
+                
+                sample6 {
+                    // negative sleep time: service creation fails
+                    initTime = -1
+                    workTime = 200
+                }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+
+        // WHEN run tasks
+        BuildResult result = runFailed("task1", "task2", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN task received service error and warm-up report has no wall time
+        String out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Execution failed for task ':task1'.",
+                "Services warm-up: nothing initialized, failed: [");
+        Assertions.assertThat(out).doesNotContain("wall");
+    }
+}
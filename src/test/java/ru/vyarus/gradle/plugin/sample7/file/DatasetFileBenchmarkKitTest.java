@@ -0,0 +1,96 @@
+package ru.vyarus.gradle.plugin.sample7.file;
+
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractBenchmarkKitTest;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares {@code ListProperty<String>} service parameter with {@link DatasetFile} parameter: configuration cache
+ * entry size, store time and reuse time for tasks using service state ("touch") and task, referencing service, but
+ * not using it ("skip").
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class DatasetFileBenchmarkKitTest extends AbstractBenchmarkKitTest {
+
+    private static final int[] SIZES = {10_000, 100_000, 500_000};
+
+    @Test
+    void benchmarkConfigurationCache() {
+        final List<String> rows = new ArrayList<>();
+        for (int size : SIZES) {
+            rows.add(runBuild(size, false));
+            rows.add(runBuild(size, true));
+        }
+        report("dataset-file", "values,parameter,entry bytes,store ms,skip reuse ms,touch reuse ms", rows);
+    }
+
+    private String runBuild(int size, boolean file) {
+        final File root = file((file ? "file" : "plain") + size);
+        root.mkdirs();
+        write(new File(root, "settings.gradle"), "rootProject.name='bench'");
+        write(new File(root, "build.gradle"), """
+                plugins {
+                    id 'ru.vyarus.sample7.file' apply false
+                }
+
+                interface PlainParams extends BuildServiceParameters {
+                    ListProperty<String> getValues()
+                }
+
+                interface FileParams extends BuildServiceParameters {
+                    Property<ru.vyarus.gradle.plugin.sample7.file.DatasetFile<String>> getValues()
+                }
+
+                abstract class PlainService implements BuildService<PlainParams> {
+                    int count() { parameters.values.get().size() }
+                }
+
+                abstract class FileService implements BuildService<FileParams> {
+                    int count() { parameters.values.get().values().size() }
+                }
+
+                def values = (0..<%d).collect { "value-$it-${it * 31}".toString() }
+                def service = %s
+
+                tasks.register('touch') {
+                    usesService(service)
+                    doLast { println "Values: ${service.get().count()}" }
+                }
+                tasks.register('skip') {
+                    usesService(service)
+                    doLast { println "Service not used" }
+                }
+                """.formatted(size, file
+                ? """
+                gradle.sharedServices.registerIfAbsent('values', FileService) {
+                    parameters.values.set(provider {
+                        ru.vyarus.gradle.plugin.sample7.file.DatasetFile.write(
+                                layout.buildDirectory.file('values.bin').get().asFile, values,
+                                ru.vyarus.gradle.plugin.sample7.file.StringCodec.INSTANCE)
+                    })
+                }"""
+                : """
+                gradle.sharedServices.registerIfAbsent('values', PlainService) {
+                    parameters.values.set(values)
+                }"""));
+
+        // both tasks stored in one entry
+        final Stats store = measure(0, 1, () ->
+                gradle(root, "skip", "touch", "--configuration-cache", "-q").build());
+        final long entrySize = configurationCacheSize(root);
+        // different task requests use different entries
+        gradle(root, "skip", "--configuration-cache", "-q").build();
+        gradle(root, "touch", "--configuration-cache", "-q").build();
+        final Stats skip = measure(1, 5, () -> gradle(root, "skip", "--configuration-cache", "-q").build());
+        final Stats touch = measure(1, 5, () -> gradle(root, "touch", "--configuration-cache", "-q").build());
+
+        return String.format(Locale.ROOT, "%d,%s,%d,%.2f,%.2f,%.2f", size, file ? "DatasetFile" : "ListProperty",
+                entrySize, store.meanMs(), skip.meanMs(), touch.meanMs());
+    }
+}
@@ -0,0 +1,89 @@
+package ru.vyarus.gradle.plugin.sample7.file;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractKitTest;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class Sample7FilePluginKitTest extends AbstractKitTest {
+
+    @Test
+    void testConfigurationCache() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'base'
+                    id 'ru.vyarus.sample7.file'
+                }
+                """);
+
+        // WHEN run without cache
+        BuildResult result = run("sample7Task", "--configuration-cache");
+
+        // THEN state written into file
+        String out = result.getOutput();
+        Assertions.assertThat(out).contains(
+                "Calculating task graph as no cached configuration is available for tasks:",
+                "Configuration cache entry stored.",
+                "Service created with state: dataset of 2 records:",
+                "Task see state: [val1, val2]");
+        Assertions.assertThat(file(".gradle/sample7/values.bin")).exists();
+
+        // WHEN run with populated cache
+        System.out.println("\n\n------------------- FROM CACHE ----------------------------------------");
+        result = run("sample7Task", "--configuration-cache");
+        out = result.getOutput();
+
+        // THEN state loaded from file
+        Assertions.assertThat(out).contains(
+                "Reusing configuration cache.",
+                "Task see state: [val1, val2]");
+
+        // WHEN state file removed
+        System.out.println("\n\n------------------- FILE REMOVED ----------------------------------------");
+        file(".gradle/sample7/values.bin").delete();
+        result = run("sample7Task", "--configuration-cache");
+        out = result.getOutput();
+
+        // THEN cache invalidated and file written again
+        Assertions.assertThat(out).contains(
+                "configuration cache cannot be reused because file '.gradle/sample7/values.bin' has been removed.",
+                "Task see state: [val1, val2]");
+        Assertions.assertThat(file(".gradle/sample7/values.bin")).exists();
+
+        // WHEN clean called with reused cache entry
+        System.out.println("\n\n------------------- CLEAN ----------------------------------------");
+        run("clean", "sample7Task", "--configuration-cache");
+        result = run("clean", "sample7Task", "--configuration-cache");
+        out = result.getOutput();
+
+        // THEN file not removed
+        Assertions.assertThat(out).contains(
+                "Reusing configuration cache.",
+                "Task see state: [val1, val2]");
+    }
+
+    @Test
+    void testServiceNotUsed() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'ru.vyarus.sample7.file'
+                }
+                """);
+
+        // WHEN run task without service
+        BuildResult result = run("sample7Other", "--configuration-cache");
+
+        // THEN service not stored in cache, so state is not written
+        Assertions.assertThat(result.getOutput()).contains("Task does not use service");
+        Assertions.assertThat(result.getOutput()).doesNotContain("Service created");
+        Assertions.assertThat(file(".gradle/sample7/values.bin")).doesNotExist();
+    }
+}
@@ -8,6 +8,9 @@ import org.junit.jupiter.api.io.TempDir;
 import ru.vyarus.gradle.plugin.AbstractKitTest;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * @author Vyacheslav Rusakov
@@ -55,6 +58,7 @@ public class Sample8PluginKitTest extends AbstractKitTest {
                 Task executed
                 doLast for sample8Task
                 Finish event: :sample8Task
+                Outcomes Sample8Task: 1 executed, hit rate 0.0%, saved 0 ms
                 """);
 
         // WHEN run with populated cache
@@ -70,7 +74,62 @@ public class Sample8PluginKitTest extends AbstractKitTest {
         Assertions.assertThat(out).contains("""
                 > Task :sample8Task UP-TO-DATE
                 Finish event: :sample8Task
+                """);
+        Assertions.assertThat(out).containsPattern("Outcomes Sample8Task: 1 up-to-date, hit rate 100\\.0%, saved \\d+ ms");
+        // report written
+        Assertions.assertThat(Files.readString(file("build/sample8/outcomes.csv").toPath())).contains(
+                "type,executed,from-cache,up-to-date,skipped,failed,hit rate %,saved ms",
+                "Sample8Task,0,0,1,0,0,100.0,");
+    }
+
+    @Test
+    void testTimeSavedFromCache() throws Exception {
+
+        // build cache must not survive after the test (so use test-specific temp dir)
+        write(file("settings.gradle"), String.format("""
+                rootProject.name='sample8'
+                buildCache {
+                    local {
+                        directory = new File("%s")
+                    }
+                }
+                """, cacheDir.getCanonicalPath()));
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'base'
+                    id 'ru.vyarus.sample8'
+                }
                 
+                tasks.register('slow') {
+                    def out = layout.buildDirectory.file('slow.txt')
+                    outputs.file(out)
+                    outputs.cacheIf { true }
+                    doLast {
+                        sleep(500)
+                        out.get().asFile.text = 'slow'
+                    }
+                }
                 """);
+
+        // WHEN task executed (duration stored in history)
+        BuildResult result = run("slow", "--build-cache", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN nothing saved
+        Assertions.assertThat(result.getOutput()).contains("Outcomes DefaultTask: 1 executed, hit rate 0.0%, saved 0 ms");
+
+        // WHEN outputs removed and task restored from cache
+        run("clean", "--configuration-cache", "--configuration-cache-problems=warn");
+        result = run("slow", "--build-cache", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN execution time saved
+        Assertions.assertThat(result.task(":slow").getOutcome()).isSameAs(TaskOutcome.FROM_CACHE);
+        final Matcher matcher = Pattern.compile("Outcomes DefaultTask: 1 from-cache, hit rate 100\\.0%, saved (\\d+) ms")
+                .matcher(result.getOutput());
+        Assertions.assertThat(matcher.find()).isTrue();
+        Assertions.assertThat(Long.parseLong(matcher.group(1))).isGreaterThan(0);
+        Assertions.assertThat(Files.readString(file("build/sample8/outcomes.csv").toPath()))
+                .contains("DefaultTask,0,1,0,0,0,100.0," + matcher.group(1));
     }
 }
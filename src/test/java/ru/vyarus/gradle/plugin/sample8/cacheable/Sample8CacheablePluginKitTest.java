@@ -0,0 +1,109 @@
+package ru.vyarus.gradle.plugin.sample8.cacheable;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.vyarus.gradle.plugin.AbstractKitTest;
+
+import java.io.File;
+import java.nio.file.Files;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class Sample8CacheablePluginKitTest extends AbstractKitTest {
+    @TempDir
+    File cacheDir;
+
+    @Test
+    void testRelocatableCache() throws Exception {
+
+        // SETUP two checkouts of the same project in different directories
+        final File first = createProject("first");
+        final File second = createProject("second");
+
+        // WHEN run in the first checkout
+        BuildResult result = gradle(first, "sample8Task", "--build-cache", "--configuration-cache",
+                "--configuration-cache-problems=warn").build();
+
+        // THEN task executed
+        Assertions.assertThat(result.task(":sample8Task").getOutcome()).isSameAs(TaskOutcome.SUCCESS);
+        Assertions.assertThat(result.getOutput()).contains(
+                "Task executed",
+                "Outcomes CacheableSample8Task: 1 executed");
+        final String content = Files.readString(new File(first, "build/sample8/out.txt").toPath());
+        Assertions.assertThat(content).startsWith("Generated record 1\nGenerated record 2\n")
+                .endsWith("Generated record 10000\n");
+
+        // WHEN run in the second checkout
+        result = gradle(second, "sample8Task", "--build-cache", "--configuration-cache",
+                "--configuration-cache-problems=warn").build();
+
+        // THEN output loaded from cache
+        Assertions.assertThat(result.task(":sample8Task").getOutcome()).isSameAs(TaskOutcome.FROM_CACHE);
+        Assertions.assertThat(result.getOutput()).doesNotContain("Task executed");
+        Assertions.assertThat(result.getOutput()).contains("Outcomes CacheableSample8Task: 1 from-cache");
+        Assertions.assertThat(Files.readString(new File(second, "build/sample8/out.txt").toPath()))
+                .isEqualTo(content);
+
+        // WHEN run in the first checkout after clean
+        result = gradle(first, "clean", "sample8Task", "--build-cache", "--configuration-cache",
+                "--configuration-cache-problems=warn").build();
+
+        // THEN output loaded from cache
+        Assertions.assertThat(result.task(":sample8Task").getOutcome()).isSameAs(TaskOutcome.FROM_CACHE);
+    }
+
+    @Test
+    void testTemplateAndLine() throws Exception {
+
+        // SETUP
+        write(file("src/template.txt"), "Generated record\n");
+        build("""
+                plugins {
+                    id 'base'
+                    id 'ru.vyarus.sample8.cacheable'
+                }
+                
+                sample8Task {
+                    template = file('src/template.txt')
+                    line = 'Sample line'
+                }
+                """);
+
+        // WHEN run with both template and line
+        BuildResult result = runFailed("sample8Task", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN configuration error
+        Assertions.assertThat(result.getOutput()).contains("Either template or line must be specified, but not both");
+    }
+
+    private File createProject(String name) throws Exception {
+        final File root = file(name);
+        new File(root, "src").mkdirs();
+        write(new File(root, "settings.gradle"), String.format("""
+                rootProject.name='sample8'
+                buildCache {
+                    local {
+                        directory = new File("%s")
+                    }
+                }
+                """, cacheDir.getCanonicalPath()));
+        write(new File(root, "build.gradle"), """
+                plugins {
+                    id 'base'
+                    id 'ru.vyarus.sample8.cacheable'
+                }
+                
+                sample8Task {
+                    template = file('src/template.txt')
+                    records = 10000
+                }
+                """);
+        write(new File(root, "src/template.txt"), "Generated record\n");
+        return root;
+    }
+}
@@ -0,0 +1,88 @@
+package ru.vyarus.gradle.plugin.sample8.workers;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractBenchmarkKitTest;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Measures {@link GenerateFilesTask} throughput depending on {@code --max-workers} for both isolation modes.
+ * Task is re-executed (not incremental) in each run: 2000 files with 2000 records each. Throughput is computed
+ * from the generation time, printed by the task (build time includes fixed gradle overhead).
+ * <p>
+ * Runs count could be configured with {@code -Pbenchmark.runs=5} (3 by default).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class GenerateFilesBenchmarkKitTest extends AbstractBenchmarkKitTest {
+
+    private static final int FILES = 2000;
+    private static final int RECORDS = 2000;
+    private static final int[] WORKERS = {1, 2, 4, 8};
+
+    @Test
+    void benchmarkWorkers() {
+        final int runs = Integer.getInteger("benchmark.runs", 3);
+        final List<String> rows = new ArrayList<>();
+        for (String isolation : List.of(GenerateFilesTask.ISOLATION_NONE, GenerateFilesTask.ISOLATION_CLASSLOADER)) {
+            final File root = createProject(isolation);
+            for (int workers : WORKERS) {
+                // warmup
+                generate(root, workers);
+                final Stats task = new Stats();
+                final Stats build = measure(0, runs, () -> {
+                    task.add(generationTime(generate(root, workers).getOutput()));
+                    return null;
+                });
+                final long bytes = dirSize(new File(root, "build/sample8/generated"));
+                final double seconds = task.mean() / 1_000_000_000;
+                // zero time could only be a measurement failure: report no throughput instead of Infinity
+                rows.add(String.format(Locale.ROOT, "%s,%d,%.2f,%.2f,%.3f,%.3f,%.1f,%.1f", isolation, workers,
+                        build.meanMs(), build.stdDevMs(), task.meanMs(), task.stdDevMs(),
+                        seconds > 0 ? FILES / seconds : 0, seconds > 0 ? bytes / 1024.0 / 1024 / seconds : 0));
+            }
+        }
+        report("generate-files-workers",
+                "isolation,max workers,build ms,build stddev,task ms,task stddev,files/s,MB/s", rows);
+    }
+
+    private BuildResult generate(File root, int workers) {
+        return gradle(root, "generateFiles", "--rerun-tasks", "--max-workers=" + workers, "--configuration-cache",
+                "-q").build();
+    }
+
+    // nanoseconds
+    private long generationTime(String output) {
+        final String marker = " files in ";
+        final int start = output.indexOf(marker, output.indexOf("Generated ")) + marker.length();
+        return Math.round(Double.parseDouble(output.substring(start, output.indexOf(" ms", start))) * 1_000_000);
+    }
+
+    private File createProject(String isolation) {
+        final File root = file(isolation);
+        final File templates = new File(root, "src/templates");
+        templates.mkdirs();
+        write(new File(root, "settings.gradle"), "rootProject.name='bench'");
+        write(new File(root, "build.gradle"), """
+                plugins {
+                    id 'ru.vyarus.sample8.workers'
+                }
+
+                generateFiles {
+                    records = %d
+                    batchSize = 50
+                    isolation = '%s'
+                }
+                """.formatted(RECORDS, isolation));
+        for (int i = 0; i < FILES; i++) {
+            write(new File(templates, "group" + (i / 100) + "/template" + i + ".txt"),
+                    "Generated record for template " + i + "\n");
+        }
+        return root;
+    }
+}
@@ -0,0 +1,113 @@
+package ru.vyarus.gradle.plugin.sample8.workers;
+
+import org.assertj.core.api.Assertions;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractKitTest;
+
+import java.io.File;
+import java.nio.file.Files;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class Sample8WorkersPluginKitTest extends AbstractKitTest {
+
+    @Test
+    void testIncrementalGeneration() throws Exception {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample8.workers'
+                }
+                
+                generateFiles {
+                    records = 10
+                    batchSize = 3
+                }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+        for (int i = 1; i <= 10; i++) {
+            template("t" + i + ".txt", "Template " + i);
+        }
+        template("sub/nested.txt", "Nested");
+
+        // WHEN run
+        BuildResult result = run("generateFiles", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN all files generated
+        Assertions.assertThat(result.getOutput()).contains(
+                "Generating 11 files in 4 work units (none isolation, full), 0 removed");
+        Assertions.assertThat(Files.readString(generated("sub/nested.txt").toPath()))
+                .startsWith("Nested 1\nNested 2\n").endsWith("Nested 10\n");
+
+        // WHEN run again
+        result = run("generateFiles", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN up to date
+        Assertions.assertThat(result.task(":generateFiles").getOutcome()).isSameAs(TaskOutcome.UP_TO_DATE);
+
+        // WHEN templates changed, removed and added
+        template("t1.txt", "Changed");
+        new File(file("src/templates"), "t2.txt").delete();
+        template("t11.txt", "Added");
+        result = run("generateFiles", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN only changes processed
+        Assertions.assertThat(result.getOutput()).contains(
+                "Generating 2 files in 1 work units (none isolation, incremental), 1 removed");
+        Assertions.assertThat(Files.readString(generated("t1.txt").toPath())).startsWith("Changed 1\n");
+        Assertions.assertThat(Files.readString(generated("t11.txt").toPath())).startsWith("Added 1\n");
+        Assertions.assertThat(generated("t2.txt")).doesNotExist();
+        Assertions.assertThat(Files.readString(generated("t3.txt").toPath())).startsWith("Template 3 1\n");
+    }
+
+    @Test
+    void testClassloaderIsolation() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'java'
+                    id 'ru.vyarus.sample8.workers'
+                }
+                
+                generateFiles {
+                    records = 10
+                    isolation = 'classloader'
+                }
+                
+                repositories {
+                    // required for testKit run
+                    mavenCentral()
+                }
+                """);
+        template("t1.txt", "Template");
+
+        // WHEN run
+        BuildResult result = run("generateFiles", "--configuration-cache", "--configuration-cache-problems=warn");
+
+        // THEN generated
+        Assertions.assertThat(result.getOutput()).contains(
+                "Generating 1 files in 1 work units (classloader isolation, full), 0 removed");
+        Assertions.assertThat(generated("t1.txt")).exists();
+    }
+
+    private void template(String path, String content) {
+        final File file = new File(file("src/templates"), path);
+        file.getParentFile().mkdirs();
+        write(file, content + "\n");
+    }
+
+    private File generated(String path) {
+        return file("build/sample8/generated/" + path);
+    }
+}
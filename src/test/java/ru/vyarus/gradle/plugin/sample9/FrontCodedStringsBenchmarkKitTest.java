@@ -0,0 +1,163 @@
+package ru.vyarus.gradle.plugin.sample9;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.gradle.plugin.AbstractBenchmarkKitTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares {@link FrontCodedStrings} with plain strings list for hierarchical module names: java serialization size
+ * and load time, configuration cache entry size and service construction time (service parameter
+ * {@code Property<FrontCodedStrings>} vs {@code ListProperty<String>}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 21.11.2025
+ */
+public class FrontCodedStringsBenchmarkKitTest extends AbstractBenchmarkKitTest {
+
+    private static final int[] SIZES = {1_000, 5_000, 20_000};
+
+    @Test
+    void benchmarkSerialization() throws Exception {
+        final List<String> rows = new ArrayList<>();
+        for (int size : SIZES) {
+            final List<String> values = values(size);
+            final byte[] plainBytes = serialize(new ArrayList<>(values));
+            final byte[] compactBytes = serialize(FrontCodedStrings.of(values));
+            // load includes reading of all values (like service does)
+            final Stats plainLoad = measure(3, 10, () -> chars(deserialize(plainBytes, List.class)));
+            final Stats compactLoad = measure(3, 10, () -> chars(deserialize(compactBytes, FrontCodedStrings.class)));
+
+            rows.add(String.format(Locale.ROOT, "%d,%d,%d,%.2f,%.2f", size, plainBytes.length, compactBytes.length,
+                    plainLoad.meanMs(), compactLoad.meanMs()));
+        }
+        report("front-coded-serialization", "values,plain bytes,compact bytes,plain load ms,compact load ms", rows);
+    }
+
+    @Test
+    void benchmarkConfigurationCache() {
+        final List<String> rows = new ArrayList<>();
+        for (int size : SIZES) {
+            rows.add(runBuild(size, false));
+            rows.add(runBuild(size, true));
+        }
+        report("front-coded-configuration-cache", "values,parameter,entry bytes,store ms,reuse ms,construction ms",
+                rows);
+    }
+
+    private String runBuild(int size, boolean compact) {
+        final File root = file((compact ? "compact" : "plain") + size);
+        root.mkdirs();
+        write(new File(root, "settings.gradle"), "rootProject.name='bench'");
+        write(new File(root, "build.gradle"), """
+                plugins {
+                    id 'ru.vyarus.sample9' apply false
+                }
+
+                interface PlainParams extends BuildServiceParameters {
+                    ListProperty<String> getValues()
+                }
+
+                interface CompactParams extends BuildServiceParameters {
+                    Property<ru.vyarus.gradle.plugin.sample9.FrontCodedStrings> getValues()
+                }
+
+                abstract class PlainService implements BuildService<PlainParams> {
+                    PlainService() {
+                        long start = System.nanoTime()
+                        int chars = 0
+                        for (String value : parameters.values.get()) {
+                            chars += value.length()
+                        }
+                        println "Service construction: ${System.nanoTime() - start} ns ($chars chars)"
+                    }
+                }
+
+                abstract class CompactService implements BuildService<CompactParams> {
+                    CompactService() {
+                        long start = System.nanoTime()
+                        int chars = 0
+                        for (String value : parameters.values.get()) {
+                            chars += value.length()
+                        }
+                        println "Service construction: ${System.nanoTime() - start} ns ($chars chars)"
+                    }
+                }
+
+                def values = (0..<%d).collect { ":platform:services:group${it.intdiv(100)}:module$it".toString() }
+                def service = %s
+
+                tasks.register('run') {
+                    usesService(service)
+                    doLast { service.get() }
+                }
+                """.formatted(size, compact
+                ? """
+                gradle.sharedServices.registerIfAbsent('values', CompactService) {
+                    parameters.values.set(ru.vyarus.gradle.plugin.sample9.FrontCodedStrings.of(values))
+                }"""
+                : """
+                gradle.sharedServices.registerIfAbsent('values', PlainService) {
+                    parameters.values.set(values)
+                }"""));
+
+        final Stats store = measure(0, 1, () -> gradle(root, "run", "--configuration-cache", "-q").build());
+        final long entrySize = configurationCacheSize(root);
+        // warmup
+        gradle(root, "run", "--configuration-cache", "-q").build();
+        final Stats construction = new Stats();
+        final Stats reuse = measure(0, 5, () -> {
+            final BuildResult result = gradle(root, "run", "--configuration-cache", "-q").build();
+            construction.add(constructionTime(result.getOutput()));
+            return null;
+        });
+
+        return String.format(Locale.ROOT, "%d,%s,%d,%.2f,%.2f,%.2f", size, compact ? "FrontCodedStrings" : "List",
+                entrySize, store.meanMs(), reuse.meanMs(), construction.meanMs());
+    }
+
+    private List<String> values(int size) {
+        final List<String> res = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            res.add(":platform:services:group" + (i / 100) + ":module" + i);
+        }
+        return res;
+    }
+
+    private long constructionTime(String output) {
+        final String marker = "Service construction: ";
+        final int start = output.indexOf(marker) + marker.length();
+        return Long.parseLong(output.substring(start, output.indexOf(' ', start)));
+    }
+
+    // not typed to accept deserialized list without unchecked cast
+    private int chars(Iterable<?> values) {
+        int res = 0;
+        for (Object value : values) {
+            res += ((String) value).length();
+        }
+        return res;
+    }
+
+    private byte[] serialize(Object value) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private <T> T deserialize(byte[] bytes, Class<T> type) throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return type.cast(in.readObject());
+        }
+    }
+}
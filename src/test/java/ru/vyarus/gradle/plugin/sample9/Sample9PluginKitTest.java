@@ -54,4 +54,35 @@ public class Sample9PluginKitTest extends AbstractKitTest {
                 "Reusing configuration cache.");
         Assertions.assertThat(out).contains("[sub1, sub2]");
     }
+
+    @Test
+    void testNoStateFromPreviousBuild() {
+
+        // SETUP
+        build("""
+                plugins {
+                    id 'ru.vyarus.sample9' apply false
+                }
+                
+                subprojects {
+                    apply plugin: 'ru.vyarus.sample9'
+                }
+                """);
+        write(file("settings.gradle"), "include ':sub1', ':sub2'");
+        file("sub1").mkdirs();
+        file("sub2").mkdirs();
+
+        // WHEN run without cache
+        BuildResult result = run("sample9Task");
+
+        // THEN state collected
+        Assertions.assertThat(result.getOutput()).contains("Service created with state: [sub1, sub2]");
+
+        // WHEN run again in the same daemon
+        result = run("sample9Task");
+
+        // THEN state does not contain values from the previous build
+        Assertions.assertThat(result.getOutput()).contains("Service created with state: [sub1, sub2]");
+        Assertions.assertThat(result.getOutput()).doesNotContain("sub2, sub1");
+    }
 }